@@ -0,0 +1,121 @@
+package org.example.expert.com;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 나노초 단위 지연 시간 히스토그램 (log-linear bucket)
+ * 2의 거듭제곱 구간마다 32칸으로 나눠 상대 오차 1/32(약 3%) 이내로 1ns ~ 2^41ns(약 36분)를 고정 크기 배열에 담습니다.
+ * 기록은 AtomicLongArray 칸 하나와 합계를 증가시키는 것뿐이라 lock과 객체 할당이 없습니다.
+ * 값은 누적만 하고, 구간/초기화 통계는 snapshot끼리의 차이로 계산합니다.
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketIndex(nanos));
+        totalNanos.addAndGet(Math.max(nanos, 0));
+    }
+
+    // 기록 중에도 읽을 수 있습니다. 칸마다 따로 읽으므로 동시에 들어온 기록 일부는 다음 snapshot에 잡힙니다.
+    public Snapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copied[i] = counts.get(i);
+        }
+        return new Snapshot(copied, totalNanos.get());
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // 칸에 들어가는 가장 큰 값, 백분위 값은 이 값으로 보고합니다.
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lower = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0L);
+
+        private final long[] counts;
+        private final long totalNanos;
+        private final long count;
+
+        private Snapshot(long[] counts, long totalNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+        }
+
+        // base 이후에 기록된 값만 남긴 snapshot
+        public Snapshot minus(Snapshot base) {
+            long[] delta = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                delta[i] = counts[i] - base.counts[i];
+            }
+            return new Snapshot(delta, totalNanos - base.totalNanos);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * @param percentile 0 초과 100 이하
+         * @return 기록된 값의 percentile 위치가 속한 칸의 상한, 기록이 없으면 0
+         */
+        public long valueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return getMaxNanos();
+        }
+
+        public long getMaxNanos() {
+            for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return bucketUpperBound(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.com;
+
+import org.example.expert.domain.common.dto.LatencyStatsResponse;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @TrackTime 메서드별 지연 시간 히스토그램 보관소
+ * 통계는 마지막 reset 이후(누적) 또는 마지막 구간 조회 이후(interval) 기록만으로 계산합니다.
+ */
+@Component
+public class LatencyRegistry {
+
+    private final ConcurrentHashMap<Method, TrackedMethod> methods = new ConcurrentHashMap<>();
+
+    // 처음 호출된 메서드만 등록 시 할당하고, 이후 기록은 조회 + 히스토그램 증가뿐입니다.
+    public void record(Method method, long nanos) {
+        methods.computeIfAbsent(method, TrackedMethod::new).histogram.record(nanos);
+    }
+
+    /**
+     * @param interval true면 마지막 구간 조회 이후 기록만 보고하고 구간 기준점을 지금으로 옮깁니다.
+     */
+    public List<LatencyStatsResponse> getStats(boolean interval) {
+        List<LatencyStatsResponse> stats = new ArrayList<>();
+        for (TrackedMethod tracked : methods.values()) {
+            LatencyHistogram.Snapshot delta;
+            synchronized (tracked) {
+                LatencyHistogram.Snapshot current = tracked.histogram.snapshot();
+                delta = current.minus(interval ? tracked.intervalBase : tracked.resetBase);
+                if (interval) {
+                    tracked.intervalBase = current;
+                }
+            }
+            stats.add(toResponse(tracked.name, delta));
+        }
+        stats.sort(Comparator.comparing(LatencyStatsResponse::getMethod));
+        return stats;
+    }
+
+    public void reset() {
+        for (TrackedMethod tracked : methods.values()) {
+            synchronized (tracked) {
+                LatencyHistogram.Snapshot current = tracked.histogram.snapshot();
+                tracked.resetBase = current;
+                tracked.intervalBase = current;
+            }
+        }
+    }
+
+    private static LatencyStatsResponse toResponse(String name, LatencyHistogram.Snapshot snapshot) {
+        return new LatencyStatsResponse(
+                name,
+                snapshot.getCount(),
+                toMicros(snapshot.getMeanNanos()),
+                toMicros(snapshot.valueAtPercentile(50)),
+                toMicros(snapshot.valueAtPercentile(90)),
+                toMicros(snapshot.valueAtPercentile(99)),
+                toMicros(snapshot.valueAtPercentile(99.9)),
+                toMicros(snapshot.getMaxNanos())
+        );
+    }
+
+    private static long toMicros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    private static final class TrackedMethod {
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private LatencyHistogram.Snapshot resetBase = LatencyHistogram.Snapshot.EMPTY;
+        private LatencyHistogram.Snapshot intervalBase = LatencyHistogram.Snapshot.EMPTY;
+
+        private TrackedMethod(Method method) {
+            this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+    }
+}
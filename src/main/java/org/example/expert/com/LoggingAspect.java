@@ -9,10 +9,16 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.exception.CommentBulkDeletePartialException;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -84,4 +90,72 @@ public class LoggingAspect {
             log.info(":::Execution Time : {} ms", duration);
         }
     }
+
+    // CommentAdminController 일괄 삭제: 삭제 건수와 관계없이 요청당 감사 로그 한 줄만 남깁니다.
+    @Pointcut("execution(* org.example.expert.domain.comment.controller.CommentAdminController.bulkDeleteComments(..))")
+    public void bulkDeleteCommentsPointcut() {}
+
+    @Around("bulkDeleteCommentsPointcut()")
+    public Object logBulkDeleteComments(ProceedingJoinPoint joinPoint) throws Throwable {
+        long currentTime = System.currentTimeMillis();
+        HttpServletRequest servletRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        Long userId = (Long) servletRequest.getAttribute("userId");
+        CommentBulkDeleteRequest request = (CommentBulkDeleteRequest) joinPoint.getArgs()[0];
+        String criteria = "commentIds=" + (request.getCommentIds() == null ? 0 : request.getCommentIds().size())
+                + ", userId=" + request.getUserId()
+                + ", todoId=" + request.getTodoId()
+                + ", from=" + request.getFrom()
+                + ", to=" + request.getTo();
+
+        long deletedCount = 0L;
+        String outcome = "FAILED";
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> response && response.getBody() instanceof CommentBulkDeleteResponse body) {
+                deletedCount = body.getDeletedCount();
+            }
+            outcome = "OK";
+            return result;
+        } catch (CommentBulkDeletePartialException e) {
+            // 실패 전까지 커밋된 chunk의 삭제 건수를 그대로 감사 로그에 남깁니다.
+            deletedCount = e.getDeletedCount();
+            throw e;
+        } finally {
+            log.info("::: AUDIT comment.bulk-delete adminId={} url={} criteria=[{}] deleted={} result={} duration={}ms",
+                    userId, servletRequest.getRequestURI(), criteria, deletedCount, outcome,
+                    System.currentTimeMillis() - currentTime);
+        }
+    }
+
+    // UserAdminController 권한 일괄 변경: 대상 수와 관계없이 요청당 감사 로그 한 줄만 남깁니다.
+    @Pointcut("execution(* org.example.expert.domain.user.controller.UserAdminController.bulkChangeUserRole(..))")
+    public void bulkChangeUserRolePointcut() {}
+
+    @Around("bulkChangeUserRolePointcut()")
+    public Object logBulkChangeUserRole(ProceedingJoinPoint joinPoint) throws Throwable {
+        long currentTime = System.currentTimeMillis();
+        HttpServletRequest servletRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
+        Long userId = (Long) servletRequest.getAttribute("userId");
+        UserBulkRoleChangeRequest request = (UserBulkRoleChangeRequest) joinPoint.getArgs()[0];
+
+        UserBulkRoleChangeResponse body = null;
+        String outcome = "FAILED";
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> response && response.getBody() instanceof UserBulkRoleChangeResponse changes) {
+                body = changes;
+            }
+            // 일부 chunk만 실패한 경우에도 커밋된 결과는 응답에 있으므로 PARTIAL로 구분합니다.
+            outcome = body != null && !body.getFailedUserIds().isEmpty() ? "PARTIAL" : "OK";
+            return result;
+        } finally {
+            log.info("::: AUDIT user.bulk-role-change adminId={} url={} role={} requested={} changed={} unchanged={} notFound={} failed={} result={} duration={}ms",
+                    userId, servletRequest.getRequestURI(), request.getRole(), request.getUserIds().size(),
+                    body == null ? 0 : body.getChangedUserIds().size(),
+                    body == null ? 0 : body.getUnchangedUserIds().size(),
+                    body == null ? 0 : body.getNotFoundUserIds().size(),
+                    body == null ? 0 : body.getFailedUserIds().size(),
+                    outcome, System.currentTimeMillis() - currentTime);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package org.example.expert.com;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.domain.common.sql.SqlStatementCounter;
+import org.example.expert.domain.common.sql.SqlStats;
+import org.example.expert.domain.common.sql.SqlStatsRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 public 메서드가 실행한 SQL 문장 수를 메서드별로 기록합니다.
+ * 요청 범위(SqlCountingFilter)의 누적값을 호출 전후로 빼서 구하므로, 범위 밖(스케줄러 등) 호출은 건너뜁니다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SqlStatsAspect {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @Pointcut("within(org.example.expert.domain..service.*Service) && execution(public * *(..))")
+    public void serviceMethod() {}
+
+    @Around("serviceMethod()")
+    public Object recordSqlStats(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStats stats = SqlStatementCounter.current();
+        if (stats == null) {
+            return joinPoint.proceed();
+        }
+
+        long statements = stats.getStatements();
+        long rows = stats.getRows();
+        long nanos = stats.getNanos();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sqlStatsRegistry.recordMethod(
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    stats.getStatements() - statements,
+                    stats.getRows() - rows,
+                    stats.getNanos() - nanos
+            );
+        }
+    }
+}
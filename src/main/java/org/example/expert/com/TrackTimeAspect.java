@@ -0,0 +1,35 @@
+package org.example.expert.com;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * @TrackTime 메서드의 실행 시간을 System.nanoTime()으로 재서 LatencyRegistry 히스토그램에 기록합니다.
+ * 호출마다 로그를 남기지 않고, 통계는 GET /admin/latency 로 조회합니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TrackTimeAspect {
+
+    private final LatencyRegistry latencyRegistry;
+
+    @Pointcut("@annotation(org.example.expert.annotation.TrackTime)")
+    public void trackTimeAnnotation() {}
+
+    @Around("trackTimeAnnotation()")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // 예외로 끝난 호출도 같은 히스토그램에 기록합니다.
+            latencyRegistry.record(((MethodSignature) joinPoint.getSignature()).getMethod(), System.nanoTime() - startedAt);
+        }
+    }
+}
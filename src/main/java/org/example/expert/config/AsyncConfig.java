@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 한 요청 안에서 서로 독립적인 조회를 동시에 실행할 때 사용하는 pool
+    // pool이 가득 차면 요청 스레드에서 직접 실행하므로 조회가 버려지지 않습니다.
+    @Bean
+    public ThreadPoolTaskExecutor todoFetchExecutor(@Value("${todo.fetch.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 16);
+        executor.setThreadNamePrefix("todo-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // SSE 전송 pool, 구독자마다 스레드를 두지 않고 보낼 이벤트가 있는 구독자만 여기서 처리합니다.
+    // 전송은 느린 클라이언트에 막힐 수 있어 커밋한 요청 스레드에서 대신 실행하지 않습니다.
+    // 큐가 가득 차면 거절(AbortPolicy)하고, ChangeFeedService가 해당 구독자를 reset으로 표시합니다.
+    @Bean
+    public ThreadPoolTaskExecutor changeFeedExecutor(@Value("${change-feed.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("change-feed-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
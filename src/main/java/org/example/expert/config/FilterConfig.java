@@ -1,9 +1,13 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.sql.SqlStatsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
@@ -19,4 +23,19 @@ public class FilterConfig {
 
         return registrationBean;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+    public FilterRegistrationBean<SqlCountingFilter> sqlCountingFilter(
+            SqlStatsRegistry sqlStatsRegistry,
+            @Value("${sql.n-plus-one.threshold:5}") int nPlusOneThreshold
+    ) {
+        FilterRegistrationBean<SqlCountingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlCountingFilter(sqlStatsRegistry, nPlusOneThreshold));
+        registrationBean.addUrlPatterns("/*");
+        // 다른 필터에서 실행되는 SQL까지 요청에 포함되도록 가장 바깥에서 실행합니다.
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
 }
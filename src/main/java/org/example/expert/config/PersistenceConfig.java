@@ -1,9 +1,44 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.sql.SqlCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.sql.DataSource;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // id를 애플리케이션에서 발급하므로(@SnowflakeId) insert/update를 JDBC batch로 묶습니다.
+    // application 설정에 값이 있으면 그 값을 우선합니다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", 100);
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+            hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+    // JPA, JdbcTemplate이 같은 DataSource를 쓰므로 여기서 한 번 감싸면 모든 SQL이 요청별 집계에 잡힙니다.
+    // static이어야 이 설정 클래스보다 먼저 등록되어 DataSource 생성 시점에 적용됩니다.
+    // 모든 JDBC 호출에 집계 비용이 붙으므로 sql.stats.enabled=true인 환경(dev, test)에서만 감쌉니다.
+    @Bean
+    @ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.id.Snowflake;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SnowflakeConfig {
+
+    // 기본값을 두지 않습니다. 여러 인스턴스가 같은 node id(0)로 뜨면 PK가 충돌하므로 설정이 없으면 기동에 실패합니다.
+    // 범위(0 ~ 1023)를 벗어난 값은 Snowflake 생성자에서 거절합니다.
+    @Bean
+    public Snowflake snowflake(@Value("${snowflake.node-id}") long nodeId) {
+        Snowflake.initialize(nodeId);
+        return Snowflake.getInstance();
+    }
+}
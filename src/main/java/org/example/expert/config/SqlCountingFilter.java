@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.sql.SqlStatementCounter;
+import org.example.expert.domain.common.sql.SqlStats;
+import org.example.expert.domain.common.sql.SqlStatsRegistry;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청 하나에서 실행된 SQL 문장 수를 세어 엔드포인트별로 기록합니다.
+ * 같은 모양의 문장이 threshold 번 이상 실행된 요청은 N+1 의심으로 경고 로그를 남깁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlCountingFilter implements Filter {
+
+    private static final String UNMAPPED = "(unmapped)";
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+    private final int nPlusOneThreshold;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+
+        SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStats stats = SqlStatementCounter.stop();
+            String endpoint = httpRequest.getMethod() + " " + resolvePattern(httpRequest);
+
+            List<String> repeated = stats.findRepeatedShapes(nPlusOneThreshold);
+            for (String shape : repeated) {
+                log.warn("::: N+1 의심 {} - 같은 SQL {}회 실행: {}", endpoint, stats.getShapes().get(shape), shape);
+            }
+            sqlStatsRegistry.recordRequest(endpoint, stats, !repeated.isEmpty());
+        }
+    }
+
+    // 경로 변수별로 따로 쌓이지 않도록 매핑된 패턴(/todos/{todoId})을 씁니다.
+    // 매핑 전에 끝난 요청(인증 실패, 404)은 URI마다 항목이 늘지 않도록 하나로 묶습니다.
+    private static String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
@@ -1,11 +1,24 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.common.export.ExportFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
@@ -16,4 +29,18 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> bulkDeleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return ResponseEntity.ok(commentAdminService.bulkDeleteComments(commentBulkDeleteRequest));
+    }
+
+    @GetMapping("/admin/comments/export")
+    public void exportComments(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"comments." + exportFormat.getExtension() + "\"");
+        commentAdminService.exportComments(exportFormat, response.getOutputStream());
+    }
 }
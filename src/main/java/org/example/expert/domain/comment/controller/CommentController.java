@@ -1,23 +1,35 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.service.CommentListWriter;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
+    static final String TRUNCATED_HEADER = "X-Truncated";
+
     private final CommentService commentService;
+    private final CommentListWriter commentListWriter;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +40,47 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 로그 기록까지만 하고 202를 반환합니다. DB 반영은 비동기입니다.
+    @PostMapping("/todos/{todoId}/comments/ingest")
+    public ResponseEntity<CommentSaveResponse> ingestComment(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        return ResponseEntity.accepted().body(commentService.ingestComment(authUser, todoId, commentSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        Optional<TodoVersion> version = commentService.findCommentsVersion(todoId);
+        // 없거나 삭제 대기 중인 todo입니다. 댓글 조회는 todo 삭제 조건을 거치지 않으므로 여기서 빈 목록을 반환합니다.
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        if (webRequest.checkNotModified(version.get().commentsEtag(), version.get().commentsLastModified())) {
+            return null;
+        }
+        // 전체 조회는 MAX_LIST_SIZE 건에서 잘리므로, 더 많으면 헤더로 알리고 커서 조회를 안내합니다.
+        if (version.get().getCommentCount() > CommentService.MAX_LIST_SIZE) {
+            response.setHeader(TRUNCATED_HEADER, "true");
+            response.setHeader(HttpHeaders.LINK, "</todos/" + todoId + "/comments/cursor?size=" + CommentService.MAX_PAGE_SIZE + ">; rel=\"alternate\"");
+        }
+        // 캐시된 JSON 바이트를 응답에 바로 씁니다. null을 반환하면 MVC는 body를 다시 쓰지 않습니다.
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        commentListWriter.write(version.get(), response.getOutputStream());
+        return null;
+    }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CommentCursorResponse> getCommentsAfter(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsAfter(todoId, cursor, size));
     }
 }
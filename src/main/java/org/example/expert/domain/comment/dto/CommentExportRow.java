@@ -0,0 +1,41 @@
+package org.example.expert.domain.comment.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * export 전용 comment row
+ * 엔티티 대신 생성자 projection으로 읽어 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+@Getter
+public class CommentExportRow {
+
+    public static final List<String> CSV_HEADER = List.of("id", "todoId", "userId", "contents", "createdAt", "modifiedAt");
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long id;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long todoId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long userId;
+    private final String contents;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public CommentExportRow(Long id, Long todoId, Long userId, String contents, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.contents = contents;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public List<Object> toCsvColumns() {
+        return Arrays.asList(id, todoId, userId, contents, createdAt, modifiedAt);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 수집 로그에 기록되는 댓글 한 건
+ * id는 수집 시점에 미리 발급하므로, 같은 레코드를 다시 적재해도 PK로 중복을 걸러낼 수 있습니다.
+ */
+@Getter
+public class CommentIngestRecord {
+
+    private final long id;
+    private final long todoId;
+    private final long userId;
+    private final String contents;
+    private final LocalDateTime createdAt;
+
+    public CommentIngestRecord(long id, long todoId, long userId, String contents, LocalDateTime createdAt) {
+        this.id = id;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.contents = contents;
+        this.createdAt = createdAt;
+    }
+
+    public byte[] encode() {
+        byte[] contentBytes = contents.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 4 + Integer.BYTES + contentBytes.length);
+        buffer.putLong(id);
+        buffer.putLong(todoId);
+        buffer.putLong(userId);
+        buffer.putLong(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        buffer.putInt(contentBytes.length);
+        buffer.put(contentBytes);
+        return buffer.array();
+    }
+
+    public static CommentIngestRecord decode(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        long todoId = buffer.getLong();
+        long userId = buffer.getLong();
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneId.systemDefault());
+        byte[] contentBytes = new byte[buffer.getInt()];
+        buffer.get(contentBytes);
+        return new CommentIngestRecord(id, todoId, userId, new String(contentBytes, StandardCharsets.UTF_8), createdAt);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+
+// 일괄 삭제 시 카운터 보정용 (댓글 id, todo id)
+@Getter
+public class CommentTodoRef {
+
+    private final Long id;
+    private final Long todoId;
+
+    public CommentTodoRef(Long id, Long todoId) {
+        this.id = id;
+        this.todoId = todoId;
+    }
+}
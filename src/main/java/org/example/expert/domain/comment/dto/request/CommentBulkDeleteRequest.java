@@ -0,0 +1,28 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 일괄 삭제 조건, 아래 중 하나만 지정합니다.
+ * 1. commentIds
+ * 2. userId (작성자)
+ * 3. todoId + from/to (작성 시각 구간, from 이상 to 미만)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    @Size(max = 10000)
+    private List<Long> commentIds;
+    private Long userId;
+    private Long todoId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
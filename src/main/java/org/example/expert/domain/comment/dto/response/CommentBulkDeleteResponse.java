@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentBulkDeleteResponse {
+
+    private final long deletedCount;
+    private final int chunks;
+
+    public CommentBulkDeleteResponse(long deletedCount, int chunks) {
+        this.deletedCount = deletedCount;
+        this.chunks = chunks;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.comment.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorResponse {
+
+    private final List<CommentResponse> comments;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long nextCursor; // 다음 요청의 cursor, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CommentCursorResponse(List<CommentResponse> comments, Long nextCursor, boolean hasNext) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수집 로그에서 DB에 적재한 댓글 id
+ * 댓글 저장과 같은 트랜잭션에 기록하고, 레코드를 읽은 로그 파일이 비워져(generation이 올라가) 다시 읽힐 수 없게 된 뒤에 지웁니다.
+ * 댓글이 그 사이 삭제돼도 이 기록은 남아 있으므로, 재적재할 때 삭제된 댓글을 되살리지 않습니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comment_ingest_ledger", indexes = @Index(name = "idx_comment_ingest_ledger_generation", columnList = "generation"))
+public class CommentIngestLedger {
+
+    @Id
+    private Long id; // 댓글 id (CommentIngestRecord.id)
+    private long generation; // 레코드를 읽은 수집 로그 파일의 generation
+
+    public CommentIngestLedger(Long id, long generation) {
+        this.id = id;
+        this.generation = generation;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.comment.exception;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.ServerException;
+
+/**
+ * 일괄 삭제 도중 chunk가 실패했을 때, 이미 커밋된 chunk까지의 결과를 함께 전달합니다.
+ */
+@Getter
+public class CommentBulkDeletePartialException extends ServerException {
+
+    private final long deletedCount; // 실패 전까지 커밋된 삭제 건수
+    private final int chunks;        // 실패 전까지 커밋된 chunk 수
+
+    public CommentBulkDeletePartialException(long deletedCount, int chunks, RuntimeException cause) {
+        super("댓글 일괄 삭제가 중간에 실패했습니다. 이미 삭제된 댓글: " + deletedCount + "건");
+        this.deletedCount = deletedCount;
+        this.chunks = chunks;
+        initCause(cause);
+    }
+}
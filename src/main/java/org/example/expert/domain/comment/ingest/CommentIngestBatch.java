@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.ingest;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+
+import java.util.List;
+
+@Getter
+public class CommentIngestBatch {
+
+    private final List<CommentIngestRecord> records;
+    private final long endOffset; // 이 batch를 적재한 뒤 checkpoint로 기록할 위치
+    private final long generation; // 이 batch를 읽은 로그 파일의 generation
+
+    public CommentIngestBatch(List<CommentIngestRecord> records, long endOffset, long generation) {
+        this.records = records;
+        this.endOffset = endOffset;
+        this.generation = generation;
+    }
+
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.comment.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.example.expert.domain.comment.repository.CommentBulkRepository;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.ingest.enabled", havingValue = "true")
+public class CommentIngestDrainer {
+
+    private final CommentIngestLog commentIngestLog;
+    private final CommentBulkRepository commentBulkRepository;
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private long prunedGeneration = -1L; // drain은 스케줄러 한 스레드에서만 실행됩니다.
+
+    public CommentIngestDrainer(
+            CommentIngestLog commentIngestLog,
+            CommentBulkRepository commentBulkRepository,
+            TodoRepository todoRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${comment.ingest.batch-size:1000}") int batchSize
+    ) {
+        this.commentIngestLog = commentIngestLog;
+        this.commentBulkRepository = commentBulkRepository;
+        this.todoRepository = todoRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${comment.ingest.drain-delay:PT0.2S}")
+    public void scheduledDrain() {
+        try {
+            drain();
+        } catch (IOException e) {
+            log.error("::: 댓글 수집 로그 읽기 실패", e);
+        }
+    }
+
+    /**
+     * 수집 로그를 batchSize 건씩 DB에 적재합니다.
+     * DB 커밋 뒤에 checkpoint를 옮기므로, 그 사이 장애가 나면 재시작 후 같은 레코드를 다시 적재합니다.
+     * 재적재된 레코드는 댓글과 같은 트랜잭션에 기록한 ledger로 걸러지므로, 그 사이 삭제된 댓글도 되살아나지 않고
+     * 카운터도 실제 저장된 건만 올리므로 결과는 한 번만 반영됩니다.
+     * @return 저장된 댓글 수
+     */
+    public int drain() throws IOException {
+        pruneLedger();
+        int inserted = 0;
+        while (true) {
+            CommentIngestBatch batch = commentIngestLog.readBatch(batchSize);
+            if (batch.isEmpty()) {
+                return inserted;
+            }
+            Integer saved = transactionTemplate.execute(status -> insert(batch.getRecords(), batch.getGeneration()));
+            commentIngestLog.commit(batch.getEndOffset());
+            inserted += saved == null ? 0 : saved;
+            pruneLedger();
+        }
+    }
+
+    private int insert(List<CommentIngestRecord> records, long generation) {
+        boolean[] results = commentBulkRepository.insertIfAbsent(records, generation);
+
+        Map<Long, Integer> insertedPerTodo = new HashMap<>();
+        int inserted = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                CommentIngestRecord record = records.get(i);
+                insertedPerTodo.merge(record.getTodoId(), 1, Integer::sum);
+                eventPublisher.publishEvent(new ChangeEvent(ChangeType.COMMENT_ADDED, record.getTodoId(), record.getId()));
+                inserted++;
+            }
+        }
+        insertedPerTodo.forEach(todoRepository::addCommentCount);
+        return inserted;
+    }
+
+    // 로그 파일이 비워져 generation이 올라간 뒤에만 이전 generation의 ledger를 지웁니다.
+    // checkpoint만 지난 레코드는 파일을 비우기 전 장애 때 다시 읽힐 수 있으므로 지우면 안 됩니다.
+    // 실패해도 남은 기록은 중복 판단에만 쓰이므로 다음 적재에는 영향이 없습니다.
+    private void pruneLedger() {
+        long generation = commentIngestLog.getGeneration();
+        if (generation == prunedGeneration) {
+            return;
+        }
+        try {
+            int pruned = commentBulkRepository.deleteLedgerBefore(generation);
+            prunedGeneration = generation;
+            log.debug("::: 댓글 수집 ledger {}건 정리 (generation < {})", pruned, generation);
+        } catch (DataAccessException e) {
+            log.warn("::: 댓글 수집 ledger 정리 실패 (generation < {})", generation, e);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.expert.domain.comment.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 댓글 수집용 append-only 로그
+ * 요청 스레드는 대기열에 넣기만 하고, writer 스레드가 모인 레코드를 한 번에 쓰고 fsync 합니다. (group commit)
+ * 프레임 형식: [payload 길이 int][crc32 int][payload]
+ * DB 적재가 끝난 위치는 checkpoint 파일에 기록하고, 재시작하면 checkpoint 이후부터 다시 적재합니다.
+ * checkpoint 파일 형식: [generation long][offset long]
+ * 모두 적재해 파일을 비울 때마다 generation이 올라가므로, 이전 generation의 레코드는 다시 읽히지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comment.ingest.enabled", havingValue = "true")
+public class CommentIngestLog {
+
+    private static final String LOG_FILE = "comments.wal";
+    private static final String CHECKPOINT_FILE = "comments.checkpoint";
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+    private static final int CHECKPOINT_BYTES = Long.BYTES * 2;
+    private static final int MAX_WRITE_BATCH = 1024;
+
+    private final Path logPath;
+    private final Path checkpointPath;
+    private final BlockingQueue<PendingAppend> queue;
+    private final Object fileLock = new Object();
+
+    private FileChannel channel;
+    private FileChannel checkpointChannel;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile long durablePosition; // fsync까지 끝난 위치
+    private volatile long checkpoint;      // DB 적재까지 끝난 위치
+    private volatile long generation;      // 파일을 비운 횟수
+
+    public CommentIngestLog(
+            @Value("${comment.ingest.dir:./data/comment-wal}") String dir,
+            @Value("${comment.ingest.queue-capacity:100000}") int queueCapacity
+    ) {
+        Path directory = Path.of(dir);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpointChannel = FileChannel.open(checkpointPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long[] stored = readCheckpoint();
+        generation = stored[0];
+        if (stored[1] > channel.size()) {
+            // 파일을 비운 뒤 새 generation을 기록하기 전에 멈춘 경우입니다. 비우기 전 레코드는 모두 적재됐습니다.
+            generation++;
+            writeCheckpoint(0L);
+            checkpoint = 0L;
+        } else {
+            checkpoint = stored[1];
+        }
+        durablePosition = recover(checkpoint);
+        if (durablePosition > checkpoint) {
+            log.info("::: 댓글 수집 로그 재적재 대상 {} bytes", durablePosition - checkpoint);
+        } else if (durablePosition > 0) {
+            // checkpoint는 끝까지 기록했지만 파일을 비우기 전에 멈춘 경우입니다.
+            rollOver();
+        }
+
+        running = true;
+        writer = new Thread(this::writeLoop, "comment-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        channel.close();
+        checkpointChannel.close();
+    }
+
+    /**
+     * 레코드를 대기열에 넣습니다.
+     * @return fsync가 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> append(CommentIngestRecord record) {
+        byte[] payload = record.encode();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+        PendingAppend pending = new PendingAppend(frame);
+        if (!running || !queue.offer(pending)) {
+            throw new ServerException("댓글 수집 대기열이 가득 찼습니다.");
+        }
+        return pending.future;
+    }
+
+    /**
+     * checkpoint 이후의 레코드를 최대 maxRecords 건 읽습니다.
+     * fsync가 끝난 위치까지만 읽으므로 응답한 레코드만 적재됩니다.
+     */
+    public CommentIngestBatch readBatch(int maxRecords) throws IOException {
+        long position = checkpoint;
+        long limit = durablePosition;
+        List<CommentIngestRecord> records = new ArrayList<>();
+
+        while (records.size() < maxRecords) {
+            Frame frame = readFrame(position, limit);
+            if (frame == null) {
+                break;
+            }
+            records.add(CommentIngestRecord.decode(frame.payload));
+            position = frame.nextPosition;
+        }
+        return new CommentIngestBatch(records, position, generation);
+    }
+
+    /**
+     * DB 커밋이 끝난 위치를 기록합니다.
+     * 모두 적재됐으면 파일을 비워 로그가 계속 커지지 않게 합니다.
+     */
+    public void commit(long offset) throws IOException {
+        writeCheckpoint(offset);
+        checkpoint = offset;
+
+        synchronized (fileLock) {
+            if (offset == durablePosition) {
+                rollOver();
+            }
+        }
+    }
+
+    public long getPendingBytes() {
+        return durablePosition - checkpoint;
+    }
+
+    /**
+     * 현재 파일의 generation
+     * 이보다 작은 generation의 레코드는 파일에서 지워졌으므로 다시 적재될 일이 없습니다.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    // 파일을 먼저 비우고 fsync 한 뒤에 새 generation을 기록합니다.
+    // checkpoint를 0으로 먼저 쓰면 그 사이 장애 때 이미 적재한 파일 전체를 다시 읽게 되므로 순서를 바꾸면 안 됩니다.
+    // 비운 뒤 기록 전에 멈추면 checkpoint가 파일 크기보다 크게 남고, open()이 이를 보고 generation을 올립니다.
+    private void rollOver() throws IOException {
+        synchronized (fileLock) {
+            channel.truncate(0L);
+            channel.force(true);
+            generation++;
+            writeCheckpoint(0L);
+            durablePosition = 0L;
+            checkpoint = 0L;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>(MAX_WRITE_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_WRITE_BATCH - 1);
+                writeBatch(batch);
+                batch.forEach(pending -> pending.future.complete(null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                log.error("::: 댓글 수집 로그 기록 실패", e);
+                batch.forEach(pending -> pending.future.completeExceptionally(e));
+            }
+            batch.clear();
+        }
+
+        // 종료 중에 남은 요청은 실패로 응답합니다.
+        batch.addAll(queue);
+        batch.forEach(pending -> pending.future.completeExceptionally(new IOException("comment ingest log closed")));
+    }
+
+    private void writeBatch(List<PendingAppend> batch) throws IOException {
+        synchronized (fileLock) {
+            long position = durablePosition;
+            for (PendingAppend pending : batch) {
+                ByteBuffer frame = pending.frame;
+                while (frame.hasRemaining()) {
+                    position += channel.write(frame, position);
+                }
+            }
+            channel.force(false);
+            durablePosition = position;
+        }
+    }
+
+    // checkpoint부터 온전한 프레임만 인정하고, 기록 중 장애로 잘린 뒷부분은 잘라냅니다.
+    private long recover(long from) throws IOException {
+        long size = channel.size();
+        long position = from;
+        Frame frame;
+        while ((frame = readFrame(position, size)) != null) {
+            position = frame.nextPosition;
+        }
+        if (position < size) {
+            log.warn("::: 댓글 수집 로그 끝의 손상된 {} bytes를 잘라냅니다.", size - position);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        return position;
+    }
+
+    private Frame readFrame(long position, long limit) throws IOException {
+        if (position + FRAME_HEADER_BYTES > limit) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_BYTES);
+        readFully(header, position);
+        int length = header.getInt(0);
+        int expectedCrc = header.getInt(Integer.BYTES);
+        if (length <= 0 || position + FRAME_HEADER_BYTES + length > limit) {
+            return null;
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, position + FRAME_HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        payload.flip();
+        return new Frame(payload, position + FRAME_HEADER_BYTES + length);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    // [generation, offset], generation이 없던 이전 형식(offset만)은 generation 0으로 읽습니다.
+    private long[] readCheckpoint() throws IOException {
+        long size = checkpointChannel.size();
+        if (size < Long.BYTES) {
+            return new long[]{0L, 0L};
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size >= CHECKPOINT_BYTES ? CHECKPOINT_BYTES : Long.BYTES);
+        while (buffer.hasRemaining()) {
+            if (checkpointChannel.read(buffer, buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.capacity() == CHECKPOINT_BYTES
+                ? new long[]{buffer.getLong(0), buffer.getLong(Long.BYTES)}
+                : new long[]{0L, buffer.getLong(0)};
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_BYTES).putLong(generation).putLong(offset).flip();
+        while (buffer.hasRemaining()) {
+            checkpointChannel.write(buffer, buffer.position());
+        }
+        checkpointChannel.force(false);
+    }
+
+    private static final class PendingAppend {
+        private final ByteBuffer frame;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingAppend(ByteBuffer frame) {
+            this.frame = frame;
+        }
+    }
+
+    private static final class Frame {
+        private final ByteBuffer payload;
+        private final long nextPosition;
+
+        private Frame(ByteBuffer payload, long nextPosition) {
+            this.payload = payload;
+            this.nextPosition = nextPosition;
+        }
+    }
+}
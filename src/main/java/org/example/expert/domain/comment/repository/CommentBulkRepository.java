@@ -0,0 +1,100 @@
+package org.example.expert.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentBulkRepository {
+
+    // 삭제된 todo의 댓글은 0건으로 건너뜁니다.
+    // comments NOT EXISTS는 ledger 도입 전에 적재된 레코드가 재적재될 때 PK 충돌을 막기 위한 것입니다.
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) " +
+                    "SELECT ?, ?, ?, t.id, ?, ? FROM todos t " +
+                    "WHERE t.id = ? AND t.deleted_at IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.id = ?)";
+    private static final String INSERT_LEDGER_SQL = "INSERT INTO comment_ingest_ledger (id, generation) VALUES (?, ?)";
+    private static final String SELECT_LEDGER_IDS_SQL = "SELECT id FROM comment_ingest_ledger WHERE id IN (%s)";
+    private static final String SELECT_SAVED_IDS_SQL = "SELECT id FROM comments WHERE id IN (%s)";
+    private static final String DELETE_LEDGER_SQL = "DELETE FROM comment_ingest_ledger WHERE generation < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수집 로그의 댓글을 JDBC batch로 저장합니다. 호출한 쪽의 트랜잭션 안에서 실행해야 합니다.
+     * 중복 판단은 comments가 아니라 comment_ingest_ledger로 하므로, 적재 뒤 관리자가 지운 댓글은 재적재해도 되살아나지 않습니다.
+     * batch 건수는 rewrite batch면 SUCCESS_NO_INFO(-2)라 믿을 수 없으므로, 저장된 id를 한 번 더 조회해 확정합니다.
+     * @param generation 레코드를 읽은 수집 로그 파일의 generation
+     * @return 레코드별 저장 여부 (false: 이미 적재됐거나 todo가 삭제됨)
+     */
+    public boolean[] insertIfAbsent(List<CommentIngestRecord> records, long generation) {
+        List<Long> ids = records.stream().map(CommentIngestRecord::getId).toList();
+        Set<Long> applied = selectIds(SELECT_LEDGER_IDS_SQL, ids);
+        List<CommentIngestRecord> pending = records.stream().filter(record -> !applied.contains(record.getId())).toList();
+        if (pending.isEmpty()) {
+            return new boolean[records.size()];
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CommentIngestRecord record = pending.get(i);
+                Timestamp createdAt = Timestamp.valueOf(record.getCreatedAt());
+                ps.setLong(1, record.getId());
+                ps.setString(2, record.getContents());
+                ps.setLong(3, record.getUserId());
+                ps.setTimestamp(4, createdAt);
+                ps.setTimestamp(5, createdAt);
+                ps.setLong(6, record.getTodoId());
+                ps.setLong(7, record.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return pending.size();
+            }
+        });
+        // todo가 삭제돼 건너뛴 레코드도 처리한 것으로 기록해 재적재 때 다시 시도하지 않습니다.
+        jdbcTemplate.batchUpdate(INSERT_LEDGER_SQL, pending, pending.size(),
+                (ps, record) -> {
+                    ps.setLong(1, record.getId());
+                    ps.setLong(2, generation);
+                });
+
+        Set<Long> saved = selectIds(SELECT_SAVED_IDS_SQL, pending.stream().map(CommentIngestRecord::getId).toList());
+        boolean[] inserted = new boolean[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            long id = records.get(i).getId();
+            inserted[i] = !applied.contains(id) && saved.contains(id);
+        }
+        return inserted;
+    }
+
+    /**
+     * 이미 비워진 로그 파일(generation 미만)에서 읽은 레코드의 ledger를 지웁니다.
+     * 같은 generation의 파일은 장애 후 처음부터 다시 읽힐 수 있으므로 남겨 둡니다.
+     */
+    public int deleteLedgerBefore(long generation) {
+        return jdbcTemplate.update(DELETE_LEDGER_SQL, generation);
+    }
+
+    private Set<Long> selectIds(String sql, List<Long> ids) {
+        return new HashSet<>(jdbcTemplate.queryForList(String.format(sql, placeholders(ids.size())), Long.class, ids.toArray()));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,14 +1,82 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.CommentExportRow;
+import org.example.expert.domain.comment.dto.CommentTodoRef;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // (todo_id, id) 인덱스 순서대로 읽으므로 정렬 없이 limit 건에서 멈춥니다.
+    // 작성자는 user_id FK만 읽고 UserDirectory에서 채웁니다.
+    @Query("SELECT c FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Comment> findByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    // keyset 페이지네이션: OFFSET 대신 마지막으로 본 id 다음부터 읽습니다.
+    @Query("SELECT c FROM Comment c WHERE c.todo.id = :todoId AND c.id > :cursor ORDER BY c.id")
+    List<Comment> findByTodoIdAfter(@Param("todoId") Long todoId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // export 전용: fetch size 단위로 커서에서 읽습니다. 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다.
+    // c.todo.id만 쓰면 FK 컬럼으로 끝나 Todo의 @SQLRestriction이 빠지므로, todo를 join해 purge 대기 중인 todo의 댓글을 제외합니다.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentExportRow(" +
+            "c.id, t.id, c.user.id, c.contents, c.createdAt, c.modifiedAt) " +
+            "FROM Comment c JOIN c.todo t ORDER BY c.id")
+    Stream<CommentExportRow> streamAllForExport();
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteCommentById(@Param("commentId") Long commentId);
+
+    // 일괄 삭제 chunk 트랜잭션에서 아직 남아 있는 댓글 row를 잠급니다.
+    // 잠근 뒤에는 다른 요청이 지울 수 없으므로 DELETE 건수와 todo별 감소량이 일치합니다.
+    @Query(value = "SELECT id FROM comments WHERE id IN (:commentIds) FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingIds(@Param("commentIds") List<Long> commentIds);
+
+    // 일괄 삭제용 조회: 삭제할 댓글과 todo id를 id 순서로 chunk 크기만큼 읽습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoRef(c.id, c.todo.id) FROM Comment c WHERE c.id IN :commentIds")
+    List<CommentTodoRef> findTodoRefsByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoRef(c.id, c.todo.id) FROM Comment c " +
+            "WHERE c.user.id = :userId AND c.id > :lastId ORDER BY c.id")
+    List<CommentTodoRef> findTodoRefsByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentTodoRef(c.id, c.todo.id) FROM Comment c " +
+            "WHERE c.todo.id = :todoId AND c.createdAt >= :from AND c.createdAt < :to AND c.id > :lastId ORDER BY c.id")
+    List<CommentTodoRef> findTodoRefsByTodoIdAndCreatedAt(@Param("todoId") Long todoId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to,
+                                                          @Param("lastId") Long lastId,
+                                                          Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    // purge 전용: 한 번에 limit건까지만 지워 lock 유지 시간을 제한합니다.
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE todo_id = :todoId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByTodoId(@Param("todoId") Long todoId, @Param("limit") int limit);
 }
@@ -1,18 +1,179 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.CommentExportRow;
+import org.example.expert.domain.comment.dto.CommentTodoRef;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.exception.CommentBulkDeletePartialException;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.export.ExportFormat;
+import org.example.expert.domain.common.export.StreamingExporter;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
+    static final int BULK_DELETE_CHUNK_SIZE = 500;
+
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final StreamingExporter streamingExporter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            // 실제로 삭제한 경우에만 감소시켜 동시 삭제 시 중복 감소를 막습니다.
+            if (commentRepository.deleteCommentById(commentId) > 0) {
+                todoRepository.addCommentCount(todoId, -1);
+                eventPublisher.publishEvent(new ChangeEvent(ChangeType.COMMENT_DELETED, todoId, commentId));
+            }
+        });
+    }
+
+    /**
+     * 조건에 맞는 댓글을 chunk 단위 DELETE ... WHERE id IN (...) 로 일괄 삭제합니다.
+     * chunk마다 별도 트랜잭션으로 커밋해 긴 lock을 잡지 않고, todo 카운터는 todo별로 한 번씩만 갱신합니다.
+     * 중간 chunk가 실패하면 앞 chunk는 이미 커밋된 상태이므로, 그때까지의 결과를 CommentBulkDeletePartialException에 담아 던집니다.
+     * @return 삭제된 댓글 수와 실행한 chunk 수
+     */
+    public CommentBulkDeleteResponse bulkDeleteComments(CommentBulkDeleteRequest request) {
+        validateBulkDeleteRequest(request);
+
+        BulkDeleteProgress progress = new BulkDeleteProgress();
+        try {
+            return deleteInChunks(request, progress);
+        } catch (RuntimeException e) {
+            if (progress.chunks == 0) {
+                throw e;
+            }
+            log.error("::: 댓글 일괄 삭제 중 실패 (커밋된 chunk {}개, 삭제 {}건)", progress.chunks, progress.deletedCount, e);
+            throw new CommentBulkDeletePartialException(progress.deletedCount, progress.chunks, e);
+        }
+    }
+
+    private CommentBulkDeleteResponse deleteInChunks(CommentBulkDeleteRequest request, BulkDeleteProgress progress) {
+        if (request.getCommentIds() != null && !request.getCommentIds().isEmpty()) {
+            List<Long> ids = request.getCommentIds().stream().distinct().sorted().toList();
+            for (int from = 0; from < ids.size(); from += BULK_DELETE_CHUNK_SIZE) {
+                List<Long> chunkIds = ids.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, ids.size()));
+                BulkDeleteChunk chunk = transactionTemplate.execute(status ->
+                        deleteChunk(commentRepository.findTodoRefsByIdIn(chunkIds)));
+                progress.add(chunk.deleted);
+            }
+            return progress.toResponse();
+        }
+
+        // 작성자/기간 조건은 id 순서 keyset으로 chunk를 끊어 지웁니다.
+        PageRequest chunkPage = PageRequest.of(0, BULK_DELETE_CHUNK_SIZE);
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            BulkDeleteChunk chunk = transactionTemplate.execute(status -> deleteChunk(request.getUserId() != null
+                    ? commentRepository.findTodoRefsByUserId(request.getUserId(), afterId, chunkPage)
+                    : commentRepository.findTodoRefsByTodoIdAndCreatedAt(
+                            request.getTodoId(), request.getFrom(), request.getTo(), afterId, chunkPage)));
+            if (chunk.lastId == null) {
+                break;
+            }
+            progress.add(chunk.deleted);
+            lastId = chunk.lastId;
+        }
+        return progress.toResponse();
+    }
+
+    private void validateBulkDeleteRequest(CommentBulkDeleteRequest request) {
+        boolean byIds = request.getCommentIds() != null && !request.getCommentIds().isEmpty();
+        boolean byUser = request.getUserId() != null;
+        boolean byTodo = request.getTodoId() != null;
+
+        if ((byIds ? 1 : 0) + (byUser ? 1 : 0) + (byTodo ? 1 : 0) != 1) {
+            throw new InvalidRequestException("commentIds, userId, todoId 중 하나만 지정해야 합니다.");
+        }
+        if (byTodo && (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo()))) {
+            throw new InvalidRequestException("todoId로 삭제할 때는 from < to 구간이 필요합니다.");
+        }
+    }
+
+    private BulkDeleteChunk deleteChunk(List<CommentTodoRef> refs) {
+        if (refs.isEmpty()) {
+            return new BulkDeleteChunk(0, null);
+        }
+
+        List<Long> ids = refs.stream().map(CommentTodoRef::getId).toList();
+        Long lastId = ids.get(ids.size() - 1);
+
+        // 조회 뒤 다른 요청이 먼저 지운 댓글은 빼고, 남은 row는 잠가서 카운터를 실제 삭제된 건만큼만 줄입니다.
+        Set<Long> lockedIds = new HashSet<>(commentRepository.lockExistingIds(ids));
+        List<CommentTodoRef> lockedRefs = refs.stream().filter(ref -> lockedIds.contains(ref.getId())).toList();
+        if (lockedRefs.isEmpty()) {
+            return new BulkDeleteChunk(0, lastId);
+        }
+        int deleted = commentRepository.deleteAllByIdIn(lockedRefs.stream().map(CommentTodoRef::getId).toList());
+
+        Map<Long, Integer> deletedPerTodo = new HashMap<>();
+        lockedRefs.forEach(ref -> deletedPerTodo.merge(ref.getTodoId(), 1, Integer::sum));
+        deletedPerTodo.forEach((todoId, count) -> {
+            todoRepository.addCommentCount(todoId, -count);
+            eventPublisher.publishEvent(new ChangeEvent(ChangeType.COMMENT_DELETED, todoId, null));
+        });
+
+        return new BulkDeleteChunk(deleted, lastId);
+    }
+
+    private static final class BulkDeleteProgress {
+        private long deletedCount;
+        private int chunks;
+
+        private void add(int deleted) {
+            deletedCount += deleted;
+            chunks++;
+        }
+
+        private CommentBulkDeleteResponse toResponse() {
+            return new CommentBulkDeleteResponse(deletedCount, chunks);
+        }
+    }
+
+    private static final class BulkDeleteChunk {
+        private final int deleted;
+        private final Long lastId; // 다음 chunk 조회 기준, 더 이상 없으면 null
+
+        private BulkDeleteChunk(int deleted, Long lastId) {
+            this.deleted = deleted;
+            this.lastId = lastId;
+        }
+    }
+
+    /**
+     * 전체 댓글을 id 순서로 내보냅니다.
+     * @return 내보낸 row 수
+     */
+    @Transactional(readOnly = true)
+    public long exportComments(ExportFormat format, OutputStream outputStream) {
+        try (Stream<CommentExportRow> rows = commentRepository.streamAllForExport()) {
+            return streamingExporter.write(rows, format, CommentExportRow.CSV_HEADER, CommentExportRow::toCsvColumns, outputStream);
+        }
     }
 }
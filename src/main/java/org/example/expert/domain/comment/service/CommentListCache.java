@@ -0,0 +1,214 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * todoId → 직렬화된 댓글 목록 JSON 캐시
+ * JSON 바이트는 처음 저장할 때 max-bytes 크기로 한 번 잡는 direct buffer(off-heap) slab에 page 단위로 나눠 둡니다.
+ * 항목을 버리면 page를 free list에 바로 돌려주므로, off-heap 사용량은 GC나 Cleaner와 상관없이 slab 크기를 넘지 않습니다.
+ * 총 page가 모자라면 가장 오래 안 쓴 항목부터 버립니다.
+ * 항목마다 만들 때의 commentsEtag를 버전으로 저장해, 요청 시점 버전과 다르면 miss로 처리합니다.
+ */
+@Component
+public class CommentListCache {
+
+    private final int pageBytes;
+    private final int pageCount;
+    private final int maxEntryBytes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int[] freePages;
+    private int freeCount;
+    private ByteBuffer slab;
+
+    // OutputStream에는 byte[]로만 쓸 수 있으므로, 요청 스레드마다 page 크기 버퍼 하나를 재사용해 옮겨 씁니다.
+    private final ThreadLocal<byte[]> writeBuffer;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CommentListCache(
+            @Value("${comment.list-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${comment.list-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+            @Value("${comment.list-cache.page-bytes:4096}") int pageBytes
+    ) {
+        if (pageBytes < 1) {
+            throw new IllegalArgumentException("comment.list-cache.page-bytes는 1 이상이어야 합니다.");
+        }
+        this.pageBytes = pageBytes;
+        // slab은 ByteBuffer 하나이므로 2GB를 넘으면 기동 시점에 실패합니다.
+        this.pageCount = Math.toIntExact(maxBytes / pageBytes * pageBytes) / pageBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.freePages = new int[pageCount];
+        for (int page = 0; page < pageCount; page++) {
+            freePages[freeCount++] = pageCount - 1 - page;
+        }
+        this.writeBuffer = ThreadLocal.withInitial(() -> new byte[pageBytes]);
+    }
+
+    /**
+     * 같은 버전의 JSON이 있으면 out에 그대로 씁니다.
+     * @return 캐시에서 썼으면 true, 없거나 버전이 다르면 false
+     */
+    public boolean writeTo(long todoId, String version, OutputStream out) throws IOException {
+        Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(todoId);
+            if (entry == null || !entry.version.equals(version)) {
+                misses.incrementAndGet();
+                return false;
+            }
+            // 락을 풀고 쓰는 동안 evict 되어도 page가 다른 항목에 재사용되지 않도록 고정합니다.
+            entry.readers++;
+        } finally {
+            lock.unlock();
+        }
+
+        hits.incrementAndGet();
+        try {
+            byte[] chunk = writeBuffer.get();
+            int remaining = entry.length;
+            for (int page : entry.pages) {
+                int length = Math.min(remaining, pageBytes);
+                slab.get(page * pageBytes, chunk, 0, length);
+                out.write(chunk, 0, length);
+                remaining -= length;
+            }
+        } finally {
+            lock.lock();
+            try {
+                entry.readers--;
+                if (entry.readers == 0 && entry.removed) {
+                    freePages(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    public void put(long todoId, String version, byte[] json) {
+        int pagesNeeded = (json.length + pageBytes - 1) / pageBytes;
+        // 너무 큰 목록은 캐시 하나를 독차지하지 않도록 저장하지 않습니다.
+        if (json.length > maxEntryBytes || pagesNeeded > pageCount) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (slab == null) {
+                slab = ByteBuffer.allocateDirect(pageCount * pageBytes);
+            }
+            Entry previous = entries.remove(todoId);
+            if (previous != null) {
+                release(previous);
+            }
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (freeCount < pagesNeeded && eldest.hasNext()) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                release(evicted);
+            }
+            // 버린 항목이 아직 읽히는 중이면 page가 돌아오지 않으므로 이번에는 저장하지 않습니다.
+            if (freeCount < pagesNeeded) {
+                return;
+            }
+
+            int[] pages = new int[pagesNeeded];
+            for (int i = 0; i < pagesNeeded; i++) {
+                pages[i] = freePages[--freeCount];
+                int offset = i * pageBytes;
+                slab.put(pages[i] * pageBytes, json, offset, Math.min(pageBytes, json.length - offset));
+            }
+            entries.put(todoId, new Entry(version, pages, json.length));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(long todoId) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(todoId);
+            if (removed != null) {
+                release(removed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 버전 비교로도 걸러지지만, 바뀐 목록은 메모리를 바로 돌려주도록 커밋 후 지웁니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent changeEvent) {
+        ChangeType type = changeEvent.getType();
+        if (type == ChangeType.COMMENT_ADDED || type == ChangeType.COMMENT_DELETED || type == ChangeType.TODO_DELETED) {
+            evict(changeEvent.getTodoId());
+        }
+    }
+
+    /**
+     * @return 항목이 차지하고 있는 page 바이트 합 (읽는 중이라 아직 돌려받지 못한 page 포함)
+     */
+    public long getTotalBytes() {
+        lock.lock();
+        try {
+            return (long) (pageCount - freeCount) * pageBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // lock을 잡은 상태에서 호출합니다.
+    private void release(Entry entry) {
+        entry.removed = true;
+        if (entry.readers == 0) {
+            freePages(entry);
+        }
+    }
+
+    private void freePages(Entry entry) {
+        for (int page : entry.pages) {
+            freePages[freeCount++] = page;
+        }
+    }
+
+    private static final class Entry {
+        private final String version;
+        private final int[] pages;
+        private final int length;
+        // 아래 두 필드는 lock 안에서만 읽고 씁니다.
+        private int readers;
+        private boolean removed;
+
+        private Entry(String version, int[] pages, int length) {
+            this.version = version;
+            this.pages = pages;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 댓글 목록 JSON을 응답에 씁니다.
+ * 같은 버전으로 직렬화해 둔 바이트가 있으면 조회/직렬화 없이 그대로 쓰고, 없으면 조회 후 캐시에 넣습니다.
+ * 조회는 CommentService 빈을 통해 호출해야 @TrackTime과 읽기 전용 트랜잭션이 적용되므로 별도 컴포넌트로 둡니다.
+ * 캐시 hit 때는 트랜잭션이 없어 DB 커넥션을 잡지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentListWriter {
+
+    private final CommentService commentService;
+    private final CommentListCache commentListCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param version 컨트롤러가 조건부 GET 판단에 사용한 버전
+     */
+    public void write(TodoVersion version, OutputStream out) throws IOException {
+        long todoId = version.getId();
+        String cacheVersion = version.commentsEtag();
+        if (commentListCache.writeTo(todoId, cacheVersion, out)) {
+            return;
+        }
+
+        byte[] json = objectMapper.writeValueAsBytes(commentService.getComments(todoId));
+        commentListCache.put(todoId, cacheVersion, json);
+        out.write(json);
+    }
+}
@@ -1,44 +1,78 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.TrackTime;
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.ingest.CommentIngestLog;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.service.UserDirectory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    // 커서 없이 전체 조회할 때 반환하는 최대 건수, 그 이상은 커서 조회를 사용해야 합니다.
+    public static final int MAX_LIST_SIZE = 1000;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoOwnerCache todoOwnerCache;
+    private final ObjectProvider<CommentIngestLog> commentIngestLog;
+    private final UserDirectory userDirectory;
+    private final Snowflake snowflake;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        // todo 존재 확인은 캐시로 하고, FK는 프록시로만 연결해 todo SELECT 없이 INSERT 합니다.
+        if (todoOwnerCache.findOwnerId(todoId).isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
                 user,
-                todo
+                todoRepository.getReferenceById(todoId)
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        // 캐시에 남은 삭제된 todo면 카운터 UPDATE가 0건이므로 INSERT까지 롤백합니다.
+        if (todoRepository.addCommentCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.COMMENT_ADDED, todoId, savedComment.getId()));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +81,91 @@ public class CommentService {
         );
     }
 
+    /**
+     * 수집 모드: 댓글을 로컬 로그에 기록(fsync)한 뒤 바로 응답합니다.
+     * DB 저장은 CommentIngestDrainer가 batch로 처리하므로 응답 직후에는 조회되지 않을 수 있습니다.
+     * fsync를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentSaveResponse ingestComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        CommentIngestLog ingestLog = commentIngestLog.getIfAvailable();
+        if (ingestLog == null) {
+            throw new InvalidRequestException("댓글 수집 모드가 비활성화되어 있습니다.");
+        }
+        if (todoOwnerCache.findOwnerId(todoId).isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        CommentIngestRecord record = new CommentIngestRecord(
+                snowflake.nextId(),
+                todoId,
+                authUser.getId(),
+                commentSaveRequest.getContents(),
+                LocalDateTime.now()
+        );
+        try {
+            ingestLog.append(record).join();
+        } catch (CompletionException e) {
+            throw new ServerException("댓글 수집 로그 기록에 실패했습니다.");
+        }
+
+        return new CommentSaveResponse(
+                record.getId(),
+                record.getContents(),
+                new UserResponse(authUser.getId(), authUser.getEmail())
+        );
+    }
+
+    /**
+     * todo의 댓글을 id 순서로 최대 MAX_LIST_SIZE 건까지 조회합니다.
+     * 잘린 경우는 컨트롤러가 댓글 수로 판단해 X-Truncated 헤더와 커서 조회 링크로 알립니다.
+     */
+    @TrackTime
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        List<Comment> commentList = commentRepository.findByTodoId(todoId, PageRequest.of(0, MAX_LIST_SIZE));
+        return toResponses(commentList);
+    }
+
+    /**
+     * cursor 이후의 댓글을 size 건 조회합니다.
+     * 한 건을 더 읽어서 다음 페이지가 있는지 판단하므로 count 쿼리가 없습니다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @TrackTime
+    public CommentCursorResponse getCommentsAfter(long todoId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<Comment> commentList = commentRepository.findByTodoIdAfter(
+                todoId, cursor == null ? 0L : cursor, PageRequest.of(0, size + 1));
+
+        boolean hasNext = commentList.size() > size;
+        if (hasNext) {
+            commentList = commentList.subList(0, size);
+        }
+        Long nextCursor = hasNext ? commentList.get(commentList.size() - 1).getId() : null;
+
+        return new CommentCursorResponse(toResponses(commentList), nextCursor, hasNext);
+    }
+
+    private List<CommentResponse> toResponses(List<Comment> commentList) {
+        Map<Long, UserResponse> users = userDirectory.resolveAll(
+                commentList.stream().map(comment -> comment.getUser().getId()).toList());
 
         List<CommentResponse> dtoList = new ArrayList<>();
         for (Comment comment : commentList) {
-            User user = comment.getUser();
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    users.get(comment.getUser().getId())
             );
             dtoList.add(dto);
         }
         return dtoList;
     }
+
+    public Optional<TodoVersion> findCommentsVersion(long todoId) {
+        return todoRepository.findVersionById(todoId);
+    }
 }
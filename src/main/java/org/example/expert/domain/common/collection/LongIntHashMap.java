@@ -0,0 +1,97 @@
+package org.example.expert.domain.common.collection;
+
+/**
+ * long → int open addressing 해시맵 (linear probing)
+ * LongLongHashMap과 같은 구조지만 value가 int라 항목당 12바이트이고,
+ * 삭제 없이 계속 늘어나는 인덱스용이라 load factor를 0.75까지 허용합니다.
+ * key 0은 빈 칸 표시로 사용하므로 저장할 수 없습니다. (snowflake id는 0이 나오지 않습니다)
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출자가 lock으로 보호해야 합니다.
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.min(1 << 30, Math.max(4L, expectedSize * 4L / 3 + 1))));
+    }
+
+    public int get(long key, int defaultValue) {
+        int i = index(key);
+        while (true) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                return defaultValue;
+            }
+            if (k == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0은 저장할 수 없습니다.");
+        }
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize();
+        }
+        int i = index(key);
+        while (true) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                size++;
+                return;
+            }
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 테이블 배열이 차지하는 바이트 수 (객체 헤더 제외)
+    public long tableBytes() {
+        return keys.length * (long) (Long.BYTES + Integer.BYTES);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int n) {
+        int capacity = Integer.highestOneBit(n - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+}
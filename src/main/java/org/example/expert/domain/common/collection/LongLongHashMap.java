@@ -0,0 +1,135 @@
+package org.example.expert.domain.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * long → long open addressing 해시맵 (linear probing)
+ * 박싱 없이 key/value 배열 두 개만 사용해 항목당 메모리가 작습니다.
+ * key 0은 빈 칸 표시로 사용하므로 저장할 수 없습니다. (snowflake id는 0이 나오지 않습니다)
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출자가 lock으로 보호해야 합니다.
+ */
+public class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    public LongLongHashMap(int expectedSize) {
+        allocate(tableSizeFor(Math.max(4, expectedSize * 2)));
+    }
+
+    public long get(long key, long defaultValue) {
+        int i = index(key);
+        while (true) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                return defaultValue;
+            }
+            if (k == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0은 저장할 수 없습니다.");
+        }
+        // load factor 0.5를 넘기지 않아 탐색 길이를 짧게 유지합니다.
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int i = index(key);
+        while (true) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                size++;
+                return;
+            }
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    public boolean remove(long key) {
+        int i = index(key);
+        while (true) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                return false;
+            }
+            if (k == key) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // tombstone 대신 뒤쪽 항목을 당겨 와 탐색 체인이 끊기지 않게 합니다. (backward shift deletion)
+        int hole = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == EMPTY) {
+                break;
+            }
+            int home = index(k);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = k;
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        keys[hole] = EMPTY;
+        values[hole] = 0L;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int n) {
+        int capacity = Integer.highestOneBit(n - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.com.LatencyRegistry;
+import org.example.expert.domain.common.dto.LatencyStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LatencyAdminController {
+
+    private final LatencyRegistry latencyRegistry;
+
+    // interval=true면 직전 interval 조회 이후의 기록만 보여 주고 기준점을 지금으로 옮깁니다.
+    @GetMapping("/admin/latency")
+    public ResponseEntity<List<LatencyStatsResponse>> getLatency(@RequestParam(defaultValue = "false") boolean interval) {
+        return ResponseEntity.ok(latencyRegistry.getStats(interval));
+    }
+
+    @DeleteMapping("/admin/latency")
+    public void resetLatency() {
+        latencyRegistry.reset();
+    }
+}
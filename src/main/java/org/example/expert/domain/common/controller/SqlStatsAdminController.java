@@ -0,0 +1,28 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.SqlStatsReportResponse;
+import org.example.expert.domain.common.sql.SqlStatsRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+public class SqlStatsAdminController {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    @GetMapping("/admin/sql-stats")
+    public ResponseEntity<SqlStatsReportResponse> getSqlStats() {
+        return ResponseEntity.ok(sqlStatsRegistry.getStats());
+    }
+
+    @DeleteMapping("/admin/sql-stats")
+    public void resetSqlStats() {
+        sqlStatsRegistry.reset();
+    }
+}
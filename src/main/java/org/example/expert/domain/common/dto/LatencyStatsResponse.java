@@ -0,0 +1,29 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+// 시간 값은 모두 마이크로초, 백분위 값은 상대 오차 약 3% 이내의 근사치입니다.
+@Getter
+public class LatencyStatsResponse {
+
+    private final String method;
+    private final long count;
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+
+    public LatencyStatsResponse(String method, long count, long meanMicros, long p50Micros, long p90Micros,
+                                long p99Micros, long p999Micros, long maxMicros) {
+        this.method = method;
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SqlStatsReportResponse {
+
+    private final List<SqlStatsResponse> endpoints;
+    private final List<SqlStatsResponse> methods;
+
+    public SqlStatsReportResponse(List<SqlStatsResponse> endpoints, List<SqlStatsResponse> methods) {
+        this.endpoints = endpoints;
+        this.methods = methods;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+// name은 "GET /todos/{todoId}" 같은 엔드포인트 패턴 또는 "TodoService.getTodo" 같은 서비스 메서드입니다.
+@Getter
+public class SqlStatsResponse {
+
+    private final String name;
+    private final long calls;
+    private final long statements;
+    private final double avgStatements;
+    private final long maxStatements;
+    private final long rows;
+    private final long totalMillis;
+    private final long nPlusOneCalls;
+
+    public SqlStatsResponse(String name, long calls, long statements, double avgStatements, long maxStatements,
+                            long rows, long totalMillis, long nPlusOneCalls) {
+        this.name = name;
+        this.calls = calls;
+        this.statements = statements;
+        this.avgStatements = avgStatements;
+        this.maxStatements = maxStatements;
+        this.rows = rows;
+        this.totalMillis = totalMillis;
+        this.nPlusOneCalls = nPlusOneCalls;
+    }
+}
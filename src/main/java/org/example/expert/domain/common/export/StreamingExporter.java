@@ -0,0 +1,87 @@
+package org.example.expert.domain.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+public class StreamingExporter {
+
+    private final ObjectMapper objectMapper;
+    private final int flushRows;
+
+    public StreamingExporter(ObjectMapper objectMapper, @Value("${export.flush-rows:500}") int flushRows) {
+        this.objectMapper = objectMapper;
+        this.flushRows = flushRows;
+    }
+
+    /**
+     * Stream의 row를 하나씩 꺼내 바로 응답에 씁니다.
+     * flushRows 건마다 flush 하므로 전체 결과를 메모리에 모으지 않습니다.
+     * @param header CSV 헤더 (NDJSON에서는 사용하지 않음)
+     * @param columns CSV 한 줄에 들어갈 값
+     * @return 출력한 row 수
+     */
+    public <T> long write(Stream<T> rows, ExportFormat format, List<String> header,
+                          Function<T, List<Object>> columns, OutputStream outputStream) {
+        // 응답 스트림은 컨테이너가 닫으므로 여기서는 flush만 합니다.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, header);
+            }
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, columns.apply(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++count % flushRows == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 정렬이 가능한 64bit id 생성기
+ * [부호 1bit][timestamp 41bit][node 10bit][sequence 12bit]
+ * timestamp와 sequence를 하나의 AtomicLong에 담아 CAS로 갱신하므로 lock이 없습니다.
+ * 같은 ms에 sequence가 넘치거나 시계가 뒤로 가면 마지막 timestamp에서 이어서 발급합니다.
+ * 공용 인스턴스는 SnowflakeConfig가 Spring 설정(snowflake.node-id)으로 초기화하며, 초기화 전에 발급하면 예외가 납니다.
+ */
+public class Snowflake {
+
+    public static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile Snowflake instance;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    public Snowflake(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    Snowflake(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 공용 인스턴스를 지정한 node id로 초기화합니다. 같은 node id로 다시 부르면 기존 인스턴스를 유지합니다.
+     */
+    public static synchronized void initialize(long nodeId) {
+        if (instance == null || instance.nodeId != nodeId) {
+            instance = new Snowflake(nodeId);
+        }
+    }
+
+    public static Snowflake getInstance() {
+        Snowflake current = instance;
+        if (current == null) {
+            throw new IllegalStateException("Snowflake가 초기화되지 않았습니다. snowflake.node-id를 설정해야 합니다.");
+        }
+        return current;
+    }
+
+    public long nextId() {
+        while (true) {
+            long prev = state.get();
+            long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+            // sequence가 넘치면 +1이 그대로 timestamp로 올라갑니다.
+            long next = Math.max(now, prev + 1);
+            if (state.compareAndSet(prev, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * SnowflakeId 어노테이션이 붙은 id 필드에 애플리케이션에서 생성한 id를 넣어주는 Hibernate generator
+ * insert 전에 id가 정해지므로 IDENTITY와 달리 insert batching이 가능합니다.
+ *
+ * 기존 데이터 마이그레이션:
+ * - 기존 IDENTITY id는 그대로 둡니다. 발급되는 id는 2^22 이상이라 기존 AUTO_INCREMENT 값과 겹치지 않습니다.
+ * - AUTO_INCREMENT 컬럼에도 명시적인 id insert가 가능하므로 스키마 변경 없이 배포할 수 있습니다.
+ * - 단, 구버전(IDENTITY) 인스턴스가 함께 insert하면 AUTO_INCREMENT가 발급된 id 뒤로 밀려 충돌할 수 있으므로 rolling 배포 대신 일괄 교체합니다.
+ * - 배포 후 ALTER TABLE {todos|comments|managers|users} MODIFY id BIGINT NOT NULL; 로 AUTO_INCREMENT를 제거합니다.
+ * - 인스턴스마다 다른 snowflake.node-id(또는 SNOWFLAKE_NODE_ID)를 지정해야 합니다. 없거나 범위를 벗어나면 기동에 실패합니다.
+ * - id는 2^53을 넘으므로 응답 JSON에는 문자열로 내보냅니다. (JS 클라이언트의 정밀도 손실 방지)
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return Snowflake.getInstance().nextId();
+    }
+}
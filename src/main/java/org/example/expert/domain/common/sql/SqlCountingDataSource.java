@@ -0,0 +1,113 @@
+package org.example.expert.domain.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * JDBC 실행을 SqlStatementCounter에 기록하는 DataSource 래퍼
+ * Connection → Statement → ResultSet을 JDK proxy로 감싸 실행 문장 수, 실행 시간, 읽거나 바꾼 row 수를 셉니다.
+ * unwrap/isWrapperFor는 DelegatingDataSource가 원본 DataSource로 넘깁니다.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                // createStatement는 SQL을 실행 시점에 받으므로 null로 두고 execute 인자에서 꺼냅니다.
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(method.getReturnType(), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Class<?> type, Statement statement, String preparedSql) {
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet resultSet && name.equals("getResultSet") ? wrapResultSet(resultSet) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long startedAt = System.nanoTime();
+            Object result = invoke(target, method, args);
+            SqlStatementCounter.recordStatement(sql, System.nanoTime() - startedAt);
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Integer count && count > 0) {
+                SqlStatementCounter.addRows(count);
+            } else if (result instanceof Long largeCount && largeCount > 0) {
+                SqlStatementCounter.addRows(largeCount);
+            } else if (result instanceof int[] batch) {
+                // SUCCESS_NO_INFO(-2)처럼 건수를 모르는 항목은 0으로 셉니다.
+                for (int updated : batch) {
+                    SqlStatementCounter.addRows(Math.max(updated, 0));
+                }
+            } else if (result instanceof long[] largeBatch) {
+                for (long updated : largeBatch) {
+                    SqlStatementCounter.addRows(Math.max(updated, 0));
+                }
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlStatementCounter.addRows(1);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
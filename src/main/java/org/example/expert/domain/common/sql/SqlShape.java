@@ -0,0 +1,24 @@
+package org.example.expert.domain.common.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장 모양 정규화
+ * 바인딩 값은 이미 ? 이므로 공백과 IN 목록 길이만 맞춰, 파라미터 수만 다른 문장을 같은 모양으로 묶습니다.
+ */
+final class SqlShape {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("?");
+    }
+}
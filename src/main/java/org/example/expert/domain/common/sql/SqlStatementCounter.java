@@ -0,0 +1,46 @@
+package org.example.expert.domain.common.sql;
+
+/**
+ * 현재 스레드의 SQL 집계 범위
+ * SqlCountingDataSource가 문장을 실행할 때마다 여기로 기록하고, 범위가 없으면 기록하지 않습니다.
+ * 요청은 SqlCountingFilter가, 테스트는 start/stop으로 직접 범위를 엽니다.
+ * @Async 등 다른 스레드에서 실행된 문장은 요청 범위에 잡히지 않습니다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStats stop() {
+        SqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // 열린 범위가 없으면 null
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(String sql, long nanos) {
+        SqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordStatement(sql, nanos);
+        }
+    }
+
+    static void addRows(long rows) {
+        SqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.addRows(rows);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.common.sql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 범위(HTTP 요청, 테스트 블록)에서 실행된 SQL 집계
+ * 한 스레드에서만 쓰므로 동기화하지 않습니다.
+ */
+public class SqlStats {
+
+    private long statements;
+    private long rows;
+    private long nanos;
+    // 정규화한 SQL 모양 → 실행 횟수 (실행 순서 유지)
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        this.nanos += nanos;
+        shapes.merge(SqlShape.of(sql), 1, Integer::sum);
+    }
+
+    void addRows(long rows) {
+        this.rows += rows;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return shapes;
+    }
+
+    /**
+     * 같은 모양의 문장이 threshold 번 이상 실행됐으면 N+1 의심으로 봅니다.
+     */
+    public List<String> findRepeatedShapes(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.common.sql;
+
+import org.example.expert.domain.common.dto.SqlStatsReportResponse;
+import org.example.expert.domain.common.dto.SqlStatsResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별, 서비스 메서드별 SQL 실행 누적 통계
+ * 호출마다 원자 변수 몇 개만 증가시키고, 정렬과 평균 계산은 조회할 때 합니다.
+ * sql.stats.enabled=true일 때만 등록됩니다. (기본값 false, dev/test 환경에서 켭니다)
+ */
+@Component
+@ConditionalOnProperty(name = "sql.stats.enabled", havingValue = "true")
+public class SqlStatsRegistry {
+
+    private final ConcurrentHashMap<String, Aggregate> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Aggregate> methods = new ConcurrentHashMap<>();
+
+    public void recordRequest(String endpoint, SqlStats stats, boolean nPlusOne) {
+        endpoints.computeIfAbsent(endpoint, key -> new Aggregate())
+                .add(stats.getStatements(), stats.getRows(), stats.getNanos(), nPlusOne);
+    }
+
+    // 서비스 메서드 값은 안에서 호출한 다른 서비스 메서드의 문장까지 포함합니다.
+    public void recordMethod(String method, long statements, long rows, long nanos) {
+        methods.computeIfAbsent(method, key -> new Aggregate()).add(statements, rows, nanos, false);
+    }
+
+    public SqlStatsReportResponse getStats() {
+        return new SqlStatsReportResponse(toResponses(endpoints), toResponses(methods));
+    }
+
+    public void reset() {
+        endpoints.clear();
+        methods.clear();
+    }
+
+    // 문장 수가 많은 순서로 보여 줍니다.
+    private static List<SqlStatsResponse> toResponses(Map<String, Aggregate> aggregates) {
+        return aggregates.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingLong(SqlStatsResponse::getStatements).reversed()
+                        .thenComparing(SqlStatsResponse::getName))
+                .toList();
+    }
+
+    private static final class Aggregate {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong statements = new AtomicLong();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong nPlusOneCalls = new AtomicLong();
+
+        private void add(long statements, long rows, long nanos, boolean nPlusOne) {
+            calls.incrementAndGet();
+            this.statements.addAndGet(statements);
+            maxStatements.accumulateAndGet(statements, Math::max);
+            this.rows.addAndGet(rows);
+            this.nanos.addAndGet(nanos);
+            if (nPlusOne) {
+                nPlusOneCalls.incrementAndGet();
+            }
+        }
+
+        private SqlStatsResponse toResponse(String name) {
+            long callCount = calls.get();
+            long statementCount = statements.get();
+            return new SqlStatsResponse(
+                    name,
+                    callCount,
+                    statementCount,
+                    callCount == 0 ? 0 : (double) statementCount / callCount,
+                    maxStatements.get(),
+                    rows.get(),
+                    nanos.get() / 1_000_000,
+                    nPlusOneCalls.get()
+            );
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.feed.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import org.example.expert.domain.feed.enums.ChangeType;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ChangeEventResponse {
+
+    private final long id;
+    private final ChangeType type;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long todoId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long targetId;
+    private final LocalDateTime occurredAt;
+
+    public ChangeEventResponse(long id, ChangeType type, Long todoId, Long targetId, LocalDateTime occurredAt) {
+        this.id = id;
+        this.type = type;
+        this.todoId = todoId;
+        this.targetId = targetId;
+        this.occurredAt = occurredAt;
+    }
+}
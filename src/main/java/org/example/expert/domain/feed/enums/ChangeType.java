@@ -0,0 +1,11 @@
+package org.example.expert.domain.feed.enums;
+
+public enum ChangeType {
+    TODO_CREATED,
+    TODO_UPDATED,
+    TODO_DELETED,
+    COMMENT_ADDED,
+    COMMENT_DELETED,
+    MANAGER_ASSIGNED,
+    MANAGER_REMOVED
+}
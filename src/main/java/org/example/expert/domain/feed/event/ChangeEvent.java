@@ -0,0 +1,22 @@
+package org.example.expert.domain.feed.event;
+
+import lombok.Getter;
+import org.example.expert.domain.feed.enums.ChangeType;
+
+/**
+ * 서비스에서 발행하는 변경 이벤트
+ * 커밋된 뒤에만 ChangeFeedService가 구독자에게 전달합니다.
+ */
+@Getter
+public class ChangeEvent {
+
+    private final ChangeType type;
+    private final Long todoId;
+    private final Long targetId; // 댓글/담당자 id (todo 이벤트는 todoId와 같음)
+
+    public ChangeEvent(ChangeType type, Long todoId, Long targetId) {
+        this.type = type;
+        this.todoId = todoId;
+        this.targetId = targetId;
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.expert.domain.feed.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.feed.dto.ChangeEventResponse;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    static final String RESET_EVENT = "reset";
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final int historySize;
+    private final long timeoutMillis;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<ChangeEventResponse> history = new ArrayDeque<>();
+    private final Set<ChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastEventId; // lock으로 보호
+
+    public ChangeFeedService(
+            @Qualifier("changeFeedExecutor") Executor executor,
+            @Value("${change-feed.buffer-size:256}") int bufferSize,
+            @Value("${change-feed.history-size:1000}") int historySize,
+            @Value("${change-feed.timeout:PT30M}") Duration timeout
+    ) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 변경 이벤트를 구독합니다.
+     * 연결마다 스레드를 잡지 않고, 이벤트가 있을 때만 공용 pool에서 전송합니다.
+     * @param todoId 특정 todo의 이벤트만 받을 때 지정
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID)
+     */
+    public SseEmitter subscribe(Long todoId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ChangeSubscriber subscriber = new ChangeSubscriber(emitter, todoId, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // 재전송과 등록을 같은 lock 안에서 해야 그 사이에 커밋된 이벤트가 빠지지 않습니다.
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    // 서비스 트랜잭션이 커밋된 뒤에만 실행됩니다. 롤백된 변경은 전달되지 않습니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent changeEvent) {
+        List<ChangeSubscriber> targets = new ArrayList<>();
+
+        synchronized (lock) {
+            ChangeEventResponse event = new ChangeEventResponse(
+                    ++lastEventId,
+                    changeEvent.getType(),
+                    changeEvent.getTodoId(),
+                    changeEvent.getTargetId(),
+                    LocalDateTime.now()
+            );
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.pollFirst();
+            }
+            for (ChangeSubscriber subscriber : subscribers) {
+                if (subscriber.accepts(event)) {
+                    subscriber.offer(event);
+                    targets.add(subscriber);
+                }
+            }
+        }
+
+        targets.forEach(this::schedule);
+    }
+
+    /**
+     * 이벤트가 없는 동안에도 주기적으로 SSE 주석을 보내 프록시가 유휴 연결을 끊지 않게 하고,
+     * 이미 끊긴 연결은 전송 실패로 찾아 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${change-feed.heartbeat-interval:PT15S}",
+            initialDelayString = "${change-feed.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        for (ChangeSubscriber subscriber : subscribers) {
+            subscriber.requireHeartbeat();
+            schedule(subscriber);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void replay(ChangeSubscriber subscriber, long lastEventId) {
+        // 서버가 재시작되면 id가 다시 1부터 시작하므로, 지금까지 발급한 id보다 큰 값은 이전 실행의 id입니다.
+        // 이 경우에도 이력으로 이어 붙일 수 없으니 다시 조회하도록 알리고 현재 이력을 처음부터 보냅니다.
+        if (lastEventId > this.lastEventId) {
+            subscriber.requireReset();
+            lastEventId = 0L;
+        }
+        ChangeEventResponse oldest = history.peekFirst();
+        // 보관 중인 이력보다 오래된 id면 빠진 이벤트가 있으므로 다시 조회하도록 알립니다.
+        if (oldest != null && lastEventId < oldest.getId() - 1) {
+            subscriber.requireReset();
+        }
+        for (ChangeEventResponse event : history) {
+            if (event.getId() > lastEventId && subscriber.accepts(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private void schedule(ChangeSubscriber subscriber) {
+        if (subscriber.hasPending() && subscriber.tryMarkScheduled()) {
+            try {
+                executor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // 전송 pool이 밀려 있으면 대기 이벤트를 버리고 reset만 남깁니다.
+                // 다음 이벤트나 heartbeat 때 다시 예약되고, 클라이언트는 reset을 받아 목록을 다시 조회합니다.
+                log.debug("::: SSE 전송 예약 거절, reset으로 대체: {}", e.getMessage());
+                subscriber.dropPending();
+                subscriber.unmarkScheduled();
+            }
+        }
+    }
+
+    private void drain(ChangeSubscriber subscriber) {
+        SseEmitter emitter = subscriber.getEmitter();
+        try {
+            while (true) {
+                if (subscriber.takeReset()) {
+                    emitter.send(SseEmitter.event().name(RESET_EVENT).data(RESET_EVENT));
+                }
+                if (subscriber.takeHeartbeat()) {
+                    emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                }
+                ChangeEventResponse event = subscriber.poll();
+                if (event == null) {
+                    subscriber.unmarkScheduled();
+                    // 플래그를 내린 직후 들어온 이벤트는 여기서 이어서 보냅니다.
+                    if (subscriber.hasPending() && subscriber.tryMarkScheduled()) {
+                        continue;
+                    }
+                    return;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(event.getId()))
+                        .name(event.getType().name())
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 정리합니다.
+            log.debug("::: SSE 구독 종료: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.unmarkScheduled();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.feed.service;
+
+import lombok.Getter;
+import org.example.expert.domain.feed.dto.ChangeEventResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 하나의 전송 대기열
+ * 크기가 정해진 버퍼라서 느린 구독자가 있어도 메모리가 늘지 않고, 넘치면 가장 오래된 이벤트를 버립니다.
+ */
+class ChangeSubscriber {
+
+    @Getter
+    private final SseEmitter emitter;
+    private final Long todoId; // null이면 전체 이벤트 구독
+    private final int capacity;
+    private final ArrayDeque<ChangeEventResponse> buffer;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private boolean resetRequired;
+    private boolean heartbeatRequired;
+
+    ChangeSubscriber(SseEmitter emitter, Long todoId, int capacity) {
+        this.emitter = emitter;
+        this.todoId = todoId;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+    }
+
+    boolean accepts(ChangeEventResponse event) {
+        return todoId == null || todoId.equals(event.getTodoId());
+    }
+
+    synchronized void offer(ChangeEventResponse event) {
+        if (buffer.size() == capacity) {
+            buffer.pollFirst();
+            // 이벤트가 유실됐으므로 클라이언트가 목록을 다시 조회하도록 알립니다.
+            resetRequired = true;
+        }
+        buffer.addLast(event);
+    }
+
+    // 전송을 예약하지 못했을 때 대기 이벤트를 비우고 reset으로 대신합니다.
+    synchronized void dropPending() {
+        buffer.clear();
+        resetRequired = true;
+    }
+
+    synchronized void requireReset() {
+        resetRequired = true;
+    }
+
+    synchronized boolean takeReset() {
+        boolean reset = resetRequired;
+        resetRequired = false;
+        return reset;
+    }
+
+    // 보낼 이벤트가 이미 있으면 그 이벤트가 연결을 유지하므로 heartbeat는 생략합니다.
+    synchronized void requireHeartbeat() {
+        heartbeatRequired = buffer.isEmpty();
+    }
+
+    synchronized boolean takeHeartbeat() {
+        boolean heartbeat = heartbeatRequired;
+        heartbeatRequired = false;
+        return heartbeat;
+    }
+
+    synchronized ChangeEventResponse poll() {
+        return buffer.pollFirst();
+    }
+
+    synchronized boolean hasPending() {
+        return resetRequired || heartbeatRequired || !buffer.isEmpty();
+    }
+
+    // 구독자마다 전송 작업은 최대 하나만 실행되도록 합니다.
+    boolean tryMarkScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void unmarkScheduled() {
+        scheduled.set(false);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 담당자 등록 검증용 projection
+ * todo 작성자와 등록할 유저를 한 번의 조회로 가져옵니다.
+ */
+@Getter
+public class ManagerAssignTarget {
+
+    private final Long ownerId;
+    private final Long managerUserId; // 등록할 유저가 없으면 null
+    private final String managerEmail;
+
+    public ManagerAssignTarget(Long ownerId, Long managerUserId, String managerEmail) {
+        this.ownerId = ownerId;
+        this.managerUserId = managerUserId;
+        this.managerEmail = managerEmail;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final List<ManagerSaveResponse> assigned;
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private final List<Long> skippedUserIds; // 이미 담당자로 등록되어 있던 유저
+
+    public ManagerBulkSaveResponse(List<ManagerSaveResponse> assigned, List<Long> skippedUserIds) {
+        this.assigned = assigned;
+        this.skippedUserIds = skippedUserIds;
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.expert.domain.manager.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 @Getter
 public class ManagerResponse {
 
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
     private final Long id;
     private final UserResponse user;
 
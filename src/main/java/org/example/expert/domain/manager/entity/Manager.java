@@ -3,16 +3,20 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.annotation.SnowflakeId;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_id_user_id", columnNames = {"todo_id", "user_id"}),
+        // 내가 담당한 todo 목록 조회용 (user_id로 찾고 todo_id 순서로 읽습니다)
+        indexes = @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id"))
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,61 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ManagerBulkRepository {
+
+    // uk_managers_todo_id_user_id 중복만 no-op으로 흡수합니다.
+    // INSERT IGNORE와 달리 FK/NOT NULL 위반은 그대로 예외로 올라옵니다.
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+    private static final String SELECT_SAVED_IDS_SQL = "SELECT id FROM managers WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 담당자 row를 JDBC batch로 저장합니다.
+     * 같은 (todo_id, user_id)가 이미 있으면 unique index로 건너뛰므로 동시에 등록해도 중복이 생기지 않습니다.
+     * 중복 no-op의 건수는 드라이버 설정에 따라 0 또는 1(CLIENT_FOUND_ROWS)이고 rewrite batch면 SUCCESS_NO_INFO(-2)라
+     * 건수로는 구분할 수 없으므로, 미리 발급한 id가 실제로 저장됐는지 한 번 더 조회해 확정합니다.
+     * @param managerIds 미리 발급한 manager id (userIds와 같은 순서)
+     * @return row별 저장 여부 (false: 이미 등록됨)
+     */
+    public boolean[] insertIfAbsent(long todoId, List<Long> userIds, long[] managerIds) {
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, managerIds[i]);
+                ps.setLong(2, userIds.get(i));
+                ps.setLong(3, todoId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return userIds.size();
+            }
+        });
+
+        String placeholders = String.join(", ", Collections.nCopies(managerIds.length, "?"));
+        Set<Long> savedIds = new HashSet<>(jdbcTemplate.queryForList(
+                String.format(SELECT_SAVED_IDS_SQL, placeholders), Long.class, Arrays.stream(managerIds).boxed().toArray()));
+
+        boolean[] inserted = new boolean[managerIds.length];
+        for (int i = 0; i < managerIds.length; i++) {
+            inserted[i] = savedIds.contains(managerIds[i]);
+        }
+        return inserted;
+    }
+}
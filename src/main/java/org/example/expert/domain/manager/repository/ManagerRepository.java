@@ -1,13 +1,37 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.ManagerAssignTarget;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 담당자 유저는 user_id FK만 읽고 UserDirectory에서 채웁니다.
+    @Query("SELECT m FROM Manager m WHERE m.todo.id = :todoId")
+    List<Manager> findByTodoId(@Param("todoId") Long todoId);
+
+    boolean existsByTodoIdAndUserId(Long todoId, Long userId);
+
+    // todo가 없으면 empty, 등록할 유저가 없으면 managerUserId가 null 입니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerAssignTarget(t.user.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN User u ON u.id = :managerUserId WHERE t.id = :todoId")
+    Optional<ManagerAssignTarget> findAssignTarget(@Param("todoId") Long todoId, @Param("managerUserId") Long managerUserId);
+
+    // 담당자가 해당 todo 소속이고 todo 작성자가 userId일 때만 지웁니다.
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT t.id FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoOwner(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    // purge 전용: 한 번에 limit건까지만 지워 lock 유지 시간을 제한합니다.
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM managers WHERE todo_id = :todoId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByTodoId(@Param("todoId") Long todoId, @Param("limit") int limit);
 }
@@ -1,24 +1,43 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.TrackTime;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.manager.dto.ManagerAssignTarget;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.enums.TodoPermission;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.todo.service.TodoPermissionCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserDirectory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,73 +47,172 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoOwnerCache todoOwnerCache;
+    private final ManagerBulkRepository managerBulkRepository;
+    private final TodoPermissionCache todoPermissionCache;
+    private final UserDirectory userDirectory;
+    private final Snowflake snowflake;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        requireOwner(user.getId(), todoId, "담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+
+        // todo 작성자와 등록할 유저를 한 번에 조회하고, 엔티티는 읽지 않습니다.
+        // 권한 캐시가 무효화되기 전일 수 있어 조회한 작성자로도 한 번 더 확인합니다.
+        ManagerAssignTarget target = managerRepository.findAssignTarget(todoId, managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(user.getId(), target.getOwnerId())) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
-
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
-
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        if (target.getManagerUserId() == null) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        }
+        if (ObjectUtils.nullSafeEquals(user.getId(), target.getManagerUserId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Manager newManagerUser = new Manager(
+                userRepository.getReferenceById(target.getManagerUserId()),
+                todoRepository.getReferenceById(todoId)
+        );
+        Manager savedManagerUser;
+        try {
+            // unique (todo_id, user_id) 위반을 여기서 받기 위해 바로 flush 합니다.
+            savedManagerUser = managerRepository.saveAndFlush(newManagerUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("이미 담당자로 등록된 유저입니다.");
+        }
+        if (todoRepository.addManagerCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        todoPermissionCache.evict(target.getManagerUserId(), todoId);
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.MANAGER_ASSIGNED, todoId, savedManagerUser.getId()));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
+                new UserResponse(target.getManagerUserId(), target.getManagerEmail())
         );
     }
 
+    /**
+     * 여러 유저를 한 번에 담당자로 등록합니다.
+     * 유저 존재 확인은 IN 조회 한 번, 저장은 JDBC batch 한 번과 저장 확인 조회 한 번이며
+     * 이미 등록된 유저는 unique index로 건너뛰고 skippedUserIds로 돌려줍니다.
+     */
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        requireOwner(authUser.getId(), todoId, "담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+
+        List<Long> userIds = managerBulkSaveRequest.getManagerUserIds().stream().distinct().toList();
+        if (userIds.contains(authUser.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        // 존재 확인에는 id와 이메일만 필요하므로 비밀번호 등이 담긴 User 엔티티 대신 projection으로 읽습니다.
+        Map<Long, UserResponse> users = userRepository.findProfilesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserResponse::getId, Function.identity()));
+        List<Long> missing = userIds.stream().filter(id -> !users.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. " + missing);
+        }
+
+        long[] managerIds = new long[userIds.size()];
+        for (int i = 0; i < managerIds.length; i++) {
+            managerIds[i] = snowflake.nextId();
+        }
+        boolean[] inserted;
+        try {
+            inserted = managerBulkRepository.insertIfAbsent(todoId, userIds, managerIds);
+        } catch (DataIntegrityViolationException e) {
+            // 중복은 no-op으로 흡수되므로 여기로 오는 건 조회 뒤 todo/유저가 사라진 FK 위반입니다.
+            throw new InvalidRequestException("담당자를 등록할 일정 또는 유저가 존재하지 않습니다.");
+        }
+
+        List<ManagerSaveResponse> assigned = new ArrayList<>();
+        List<Long> skippedUserIds = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            UserResponse managerUser = users.get(userIds.get(i));
+            if (inserted[i]) {
+                assigned.add(new ManagerSaveResponse(managerIds[i], managerUser));
+                todoPermissionCache.evict(managerUser.getId(), todoId);
+                eventPublisher.publishEvent(new ChangeEvent(ChangeType.MANAGER_ASSIGNED, todoId, managerIds[i]));
+            } else {
+                skippedUserIds.add(managerUser.getId());
+            }
+        }
+        // 권한 캐시가 삭제된 todo의 작성자를 들고 있었으면 카운터 UPDATE가 0건이므로 INSERT까지 롤백합니다.
+        if (!assigned.isEmpty() && todoRepository.addManagerCount(todoId, assigned.size()) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return new ManagerBulkSaveResponse(assigned, skippedUserIds);
+    }
+
+    // 존재 확인만 하므로 Todo 엔티티를 읽지 않고 작성자 캐시로 확인합니다.
+    @TrackTime
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (todoOwnerCache.findOwnerId(todoId).isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        return getManagersByTodoId(todoId);
+    }
+
+    /**
+     * todo 존재 확인 없이 담당자 목록만 조회합니다.
+     * todo를 이미 조회/검증한 호출자가 같은 todo를 다시 조회하지 않도록 분리했습니다.
+     */
+    public List<ManagerResponse> getManagersByTodoId(long todoId) {
+        List<Manager> managerList = managerRepository.findByTodoId(todoId);
+        Map<Long, UserResponse> users = userDirectory.resolveAll(
+                managerList.stream().map(manager -> manager.getUser().getId()).toList());
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
-            User user = manager.getUser();
             dtoList.add(new ManagerResponse(
                     manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    users.get(manager.getUser().getId())
             ));
         }
         return dtoList;
     }
 
+    /**
+     * 작성자 확인은 권한 캐시로 하고, 담당자 소속 todo 확인은 DELETE 조건에 넣어 한 문장으로 처리합니다.
+     * DELETE 조건에도 작성자 확인을 남겨 캐시가 오래된 경우에도 다른 사람 todo의 담당자는 지워지지 않습니다.
+     * 지워진 row가 없을 때만 원인을 구분하기 위해 추가 조회를 합니다.
+     */
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
-        User user = userRepository.findById(authUser.getId())
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        requireOwner(authUser.getId(), todoId, "해당 일정을 만든 유저가 유효하지 않습니다.");
 
-        if (todo.getUser() == null) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다. 1");
+        if (managerRepository.deleteByIdAndTodoOwner(managerId, todoId, authUser.getId()) == 0) {
+            throw managerRepository.existsById(managerId)
+                    ? new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.")
+                    : new InvalidRequestException("Manager not found");
         }
-        if (!ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다. 2");
+        // 권한 캐시가 삭제된 todo의 작성자를 들고 있었으면 카운터 UPDATE가 0건이므로 DELETE까지 롤백합니다.
+        if (todoRepository.addManagerCount(todoId, -1) == 0) {
+            throw new InvalidRequestException("Todo not found");
         }
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.MANAGER_REMOVED, todoId, managerId));
+    }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+    // 권한은 캐시로 확인하고, 작성자가 아닐 때만 todo가 없는 경우와 구분합니다.
+    private void requireOwner(long userId, long todoId, String notOwnerMessage) {
+        if (todoPermissionCache.getPermission(userId, todoId) == TodoPermission.OWNER) {
+            return;
+        }
+        if (todoOwnerCache.findOwnerId(todoId).isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
         }
+        throw new InvalidRequestException(notOwnerMessage);
+    }
 
-        managerRepository.delete(manager);
+    public Optional<TodoVersion> findManagersVersion(long todoId) {
+        return todoRepository.findVersionById(todoId);
     }
 }
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.export.ExportFormat;
+import org.example.expert.domain.todo.dto.response.TodoPurgeStatusResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoPurger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoPurger todoPurger;
+    private final TodoExportService todoExportService;
+
+    @GetMapping("/admin/todos/purge-status")
+    public ResponseEntity<TodoPurgeStatusResponse> getPurgeStatus() {
+        return ResponseEntity.ok(todoPurger.getStatus());
+    }
+
+    // 결과를 모으지 않고 응답 스트림에 바로 씁니다. (format: ndjson | csv)
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"");
+        todoExportService.exportTodos(exportFormat, response.getOutputStream());
+    }
+}
@@ -4,19 +4,33 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoImportService todoImportService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,6 +40,14 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping(value = "/todos/import", consumes = "application/x-ndjson")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @Auth AuthUser authUser,
+            InputStream inputStream
+    ) {
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, inputStream));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -34,8 +56,46 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<TodoCursorResponse> getMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(defaultValue = "owner") String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, role, cursor, size));
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // 변경이 없으면 엔티티 조회/직렬화 없이 304를 반환합니다.
+        Optional<TodoVersion> version = todoService.findTodoVersion(todoId);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().todoEtag(), version.get().todoLastModified())) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoUpdateResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        Long expectedVersion = ifMatch != null ? TodoVersion.versionFromEtag(ifMatch, todoId) : todoUpdateRequest.getVersion();
+        return ResponseEntity.ok(todoService.updateTodo(authUser, todoId, todoUpdateRequest, expectedVersion));
+    }
+
+    // 삭제 플래그만 세우고 바로 반환합니다. 연관 데이터는 백그라운드에서 정리됩니다.
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<Void> deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/todos/{todoId}/full")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId));
+    }
 }
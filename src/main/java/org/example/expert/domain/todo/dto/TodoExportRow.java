@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * export 전용 todo row
+ * 엔티티 대신 생성자 projection으로 읽어 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+@Getter
+public class TodoExportRow {
+
+    public static final List<String> CSV_HEADER = List.of(
+            "id", "title", "contents", "weather", "userId", "commentCount", "managerCount", "createdAt", "modifiedAt");
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long userId;
+    private final int commentCount;
+    private final int managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportRow(Long id, String title, String contents, String weather, Long userId, int commentCount, int managerCount,
+                         LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public List<Object> toCsvColumns() {
+        return Arrays.asList(id, title, contents, weather, userId, commentCount, managerCount, createdAt, modifiedAt);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단용 todo 버전 정보
+ * todo 본문, 댓글 목록, 담당자 목록 각각의 validator를 만듭니다.
+ */
+@Getter
+public class TodoVersion {
+
+    private static final String TODO_ETAG_PREFIX = "todo-";
+
+    private final Long id;
+    private final long version;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final int commentCount;
+    private final int managerCount;
+    private final LocalDateTime commentsModifiedAt;
+    private final LocalDateTime managersModifiedAt;
+
+    public TodoVersion(Long id, long version, LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount,
+                       LocalDateTime commentsModifiedAt, LocalDateTime managersModifiedAt) {
+        this.id = id;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.commentsModifiedAt = commentsModifiedAt;
+        this.managersModifiedAt = managersModifiedAt;
+    }
+
+    // TodoResponse에는 카운터도 포함되므로 목록 변경 시각까지 반영합니다.
+    public LocalDateTime todoModifiedAt() {
+        return latest(latest(modifiedAt, commentsModifiedAt), managersModifiedAt);
+    }
+
+    // TodoResponse 본문은 todo 필드(version)와 카운터로만 정해지므로 둘로 ETag를 만듭니다.
+    public String todoEtag() {
+        return TODO_ETAG_PREFIX + id + "-" + version + "-" + commentCount + "-" + managerCount;
+    }
+
+    /**
+     * If-Match로 받은 todo ETag에서 version을 꺼냅니다.
+     * 카운터 부분은 비교하지 않아 댓글/담당자 변경만으로는 수정 충돌이 나지 않습니다.
+     * If-Match는 강한 비교만 허용하므로 약한 ETag(W/)와 다른 todo의 ETag는 412로 거절합니다.
+     * @param todoId 요청 경로의 todo id
+     */
+    public static long versionFromEtag(String etag, long todoId) {
+        String value = etag.trim();
+        if (value.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match에는 약한 ETag를 사용할 수 없습니다.");
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        String[] parts = value.split("-");
+        if (!value.startsWith(TODO_ETAG_PREFIX) || parts.length < 3) {
+            throw new InvalidRequestException("유효하지 않은 If-Match 값입니다.");
+        }
+        try {
+            if (Long.parseLong(parts[1]) != todoId) {
+                throw new PreconditionFailedException("If-Match의 todo id가 요청한 todo와 다릅니다.");
+            }
+            return Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 If-Match 값입니다.");
+        }
+    }
+
+    public long todoLastModified() {
+        return epochMillis(todoModifiedAt());
+    }
+
+    public String commentsEtag() {
+        return "comments-" + id + "-" + micros(commentsChangedAt()) + "-" + commentCount;
+    }
+
+    public long commentsLastModified() {
+        return epochMillis(commentsChangedAt());
+    }
+
+    public String managersEtag() {
+        return "managers-" + id + "-" + micros(managersChangedAt()) + "-" + managerCount;
+    }
+
+    public long managersLastModified() {
+        return epochMillis(managersChangedAt());
+    }
+
+    // 댓글/담당자가 한 번도 바뀌지 않았다면 todo 생성 시각을 기준으로 합니다.
+    private LocalDateTime commentsChangedAt() {
+        return commentsModifiedAt != null ? commentsModifiedAt : createdAt;
+    }
+
+    private LocalDateTime managersChangedAt() {
+        return managersModifiedAt != null ? managersModifiedAt : createdAt;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time == null ? 0L : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? -1L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
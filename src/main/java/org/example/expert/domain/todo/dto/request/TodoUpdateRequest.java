@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    private String title;    // null이면 기존 값 유지
+    private String contents; // null이면 기존 값 유지
+    private Long version;    // If-Match 헤더가 없을 때 사용하는 기대 버전
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> todos;
+    private final String nextCursor; // 다음 요청의 cursor, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<TodoResponse> todos, String nextCursor, boolean hasNext) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    private final List<CommentResponse> comments;
+
+    public TodoDetailResponse(TodoResponse todo, List<ManagerResponse> managers, List<CommentResponse> comments) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long totalLines;
+    private final long importedCount;
+    private final long failedCount;
+    private final int committedChunks;
+    private final int failedChunks; // 저장 중 오류로 롤백된 chunk 수
+    private final List<Long> failedLines; // 실패한 줄 번호 (앞에서부터 일부만)
+
+    public TodoImportResponse(long totalLines, long importedCount, long failedCount, int committedChunks, int failedChunks,
+                              List<Long> failedLines) {
+        this.totalLines = totalLines;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.committedChunks = committedChunks;
+        this.failedChunks = failedChunks;
+        this.failedLines = failedLines;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoPurgeStatusResponse {
+
+    private final long pendingCount;
+    private final long lagSeconds; // 가장 오래된 삭제 요청 이후 경과 시간
+    private final long purgedTodos;
+    private final long purgedComments;
+    private final long purgedManagers;
+    private final LocalDateTime lastRunAt;
+    private final long lastRunMillis;
+
+    public TodoPurgeStatusResponse(long pendingCount, long lagSeconds, long purgedTodos, long purgedComments, long purgedManagers,
+                                   LocalDateTime lastRunAt, long lastRunMillis) {
+        this.pendingCount = pendingCount;
+        this.lagSeconds = lagSeconds;
+        this.purgedTodos = purgedTodos;
+        this.purgedComments = purgedComments;
+        this.purgedManagers = purgedManagers;
+        this.lastRunAt = lastRunAt;
+        this.lastRunMillis = lastRunMillis;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+@Getter
+public class TodoUpdateResponse {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long id;
+    private final long version;
+
+    public TodoUpdateResponse(Long id, long version) {
+        this.id = id;
+        this.version = version;
+    }
+}
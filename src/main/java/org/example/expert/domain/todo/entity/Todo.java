@@ -3,31 +3,60 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.annotation.SnowflakeId;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_todos_user_id_modified_at", columnList = "user_id, modified_at")
+})
+// 삭제 요청된 todo는 조회에서 제외하고, 실제 row는 TodoPurger가 백그라운드로 지웁니다.
+@SQLRestriction("deleted_at IS NULL")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 낙관적 락 버전, 수정 API는 WHERE version = ? 조건의 단일 UPDATE로 비교합니다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // 목록 화면용 비정규화 카운터, 증감은 TodoRepository의 단일 UPDATE로만 합니다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int managerCount;
+    // 댓글/담당자 목록이 마지막으로 바뀐 시각 (카운터 UPDATE에서 함께 갱신)
+    private LocalDateTime commentsModifiedAt;
+    private LocalDateTime managersModifiedAt;
+    // soft-delete 시각, null이 아니면 purge 대기 상태
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 댓글은 건건이 cascade 삭제하지 않고 TodoPurger가 todo_id 기준 chunk DELETE로 지웁니다.
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,6 +68,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
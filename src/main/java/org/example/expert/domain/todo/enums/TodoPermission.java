@@ -0,0 +1,10 @@
+package org.example.expert.domain.todo.enums;
+
+// todo에 대한 요청자의 권한 (작성자는 담당자 권한도 가집니다)
+public enum TodoPermission {
+    OWNER, MANAGER, NONE;
+
+    public boolean canManage() {
+        return this != NONE;
+    }
+}
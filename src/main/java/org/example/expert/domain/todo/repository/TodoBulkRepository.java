@@ -0,0 +1,82 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TodoBulkRepository {
+
+    private static final String INSERT_TODO_SQL =
+            "INSERT INTO todos (id, title, contents, weather, user_id, version, comment_count, manager_count, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, 0, 0, 1, ?, ?)";
+    private static final String INSERT_MANAGER_SQL =
+            "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Snowflake snowflake;
+
+    /**
+     * todo와 작성자 담당자(manager) row를 JDBC batch로 저장합니다.
+     * 엔티티의 CascadeType.PERSIST 대신 managers insert도 한 번의 batch로 처리합니다.
+     * @param todos 저장할 todo 목록 (id가 없는 새 엔티티)
+     * @return 저장된 todo id (todos 순서)
+     */
+    public long[] saveAllWithOwnerManager(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return new long[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // id를 미리 발급하므로 generated key 조회 없이 managers까지 batch로 넣을 수 있습니다.
+        long[] todoIds = new long[todos.size()];
+        for (int i = 0; i < todoIds.length; i++) {
+            todoIds[i] = snowflake.nextId();
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TODO_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Todo todo = todos.get(i);
+                ps.setLong(1, todoIds[i]);
+                ps.setString(2, todo.getTitle());
+                ps.setString(3, todo.getContents());
+                ps.setString(4, todo.getWeather());
+                ps.setLong(5, todo.getUser().getId());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return todos.size();
+            }
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_MANAGER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, snowflake.nextId());
+                ps.setLong(2, todos.get(i).getUser().getId());
+                ps.setLong(3, todoIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return todos.size();
+            }
+        });
+
+        return todoIds;
+    }
+}
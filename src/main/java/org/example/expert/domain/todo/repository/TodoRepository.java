@@ -1,23 +1,140 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    // 작성자는 user_id FK만 읽고 UserDirectory에서 채웁니다.
+    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
-
     int countById(Long todoId);
+
+    // 내가 만든 todo: idx_todos_user_id_modified_at 순서 그대로 (modifiedAt, id) keyset으로 읽습니다.
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findOwnedFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Todo t WHERE t.user.id = :userId " +
+            "AND (t.modifiedAt < :cursorAt OR (t.modifiedAt = :cursorAt AND t.id < :cursorId)) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findOwnedAfter(@Param("userId") Long userId,
+                              @Param("cursorAt") LocalDateTime cursorAt,
+                              @Param("cursorId") Long cursorId,
+                              Pageable pageable);
+
+    // 내가 담당한 todo: idx_managers_user_id_todo_id 순서로 todo id keyset을 씁니다. (snowflake id라 최신순)
+    @Query("SELECT t FROM Manager m JOIN m.todo t " +
+            "WHERE m.user.id = :userId AND m.todo.id < :cursor ORDER BY m.todo.id DESC")
+    List<Todo> findManagedBefore(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 엔티티를 읽지 않고 작성자 id만 조회합니다. (TodoOwnerCache 미스 시)
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 카운터는 읽고 쓰지 않고 한 문장으로 증감해서 동시 요청에도 값이 유실되지 않습니다.
+    // 같은 문장에서 목록 변경 시각도 갱신해 조건부 GET의 validator로 사용합니다.
+    // 삭제된 todo는 0건이므로, 등록 경로는 반환값으로 캐시가 놓친 삭제를 한 번 더 확인합니다.
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, t.commentsModifiedAt = :now " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL")
+    int updateCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, t.managersModifiedAt = :now " +
+            "WHERE t.id = :todoId AND t.deletedAt IS NULL")
+    int updateManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    default int addCommentCount(Long todoId, int delta) {
+        return updateCommentCount(todoId, delta, LocalDateTime.now());
+    }
+
+    default int addManagerCount(Long todoId, int delta) {
+        return updateManagerCount(todoId, delta, LocalDateTime.now());
+    }
+
+    // 엔티티를 읽지 않고 조건부 GET 판단에 필요한 값만 PK로 조회합니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoVersion(" +
+            "t.id, t.version, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount, t.commentsModifiedAt, t.managersModifiedAt) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
+    // 버전이 같고 요청자가 담당자(작성자 포함)일 때만 수정합니다. 선조회 없이 한 문장으로 처리합니다.
+    // null인 필드는 기존 값을 유지합니다.
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.title = COALESCE(:title, t.title), " +
+            "t.contents = COALESCE(:contents, t.contents), " +
+            "t.version = t.version + 1, " +
+            "t.modifiedAt = :now " +
+            "WHERE t.id = :todoId AND t.version = :version " +
+            "AND EXISTS (SELECT m.id FROM Manager m WHERE m.todo.id = t.id AND m.user.id = :userId)")
+    int updateIfVersionMatches(@Param("todoId") Long todoId,
+                               @Param("userId") Long userId,
+                               @Param("version") long version,
+                               @Param("title") String title,
+                               @Param("contents") String contents,
+                               @Param("now") LocalDateTime now);
+
+    // 작성자만 삭제할 수 있습니다. 연관 row는 건드리지 않고 플래그만 세워 바로 반환합니다.
+    @Modifying
+    @Query("UPDATE Todo t SET t.deletedAt = :now WHERE t.id = :todoId AND t.user.id = :userId AND t.deletedAt IS NULL")
+    int softDelete(@Param("todoId") Long todoId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 아래 purge용 쿼리는 @SQLRestriction이 적용되지 않도록 native로 작성합니다.
+    @Query(value = "SELECT * FROM todos WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Todo> findPendingPurge(@Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM todos WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countPendingPurge();
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id = :todoId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeById(@Param("todoId") Long todoId);
+
+    // export 전용: fetch size 단위로 커서에서 읽습니다. 트랜잭션 안에서 사용하고 다 쓰면 닫아야 합니다.
+    // MySQL은 datasource url에 useCursorFetch=true가 있어야 fetch size가 적용됩니다.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoExportRow(" +
+            "t.id, t.title, t.contents, t.weather, t.user.id, t.commentCount, t.managerCount, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t ORDER BY t.id")
+    Stream<TodoExportRow> streamAllForExport();
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // id 구간 안에서 실제 개수와 다른 카운터만 다시 계산합니다. (반환값: 보정된 todo 수)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todos t " +
+            "SET t.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id), " +
+            "t.manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "t.comments_modified_at = :now, t.managers_modified_at = :now " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "OR t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id))",
+            nativeQuery = true)
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class TodoCountReconciler {
+
+    private final TodoRepository todoRepository;
+    private final int batchSize;
+
+    public TodoCountReconciler(
+            TodoRepository todoRepository,
+            @Value("${todo.count.reconcile-batch-size:1000}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.reconcile-delay:PT1H}", initialDelayString = "${todo.count.reconcile-delay:PT1H}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * todos.comment_count / manager_count 가 실제 comments, managers 개수와 어긋난 경우 보정합니다.
+     * id 순서로 batchSize 만큼씩 나눠 batch마다 짧은 트랜잭션으로 처리해 긴 lock을 잡지 않습니다.
+     * @return 보정된 todo 수
+     */
+    public int reconcile() {
+        long lastId = 0L;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> ids = todoRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            repaired += todoRepository.reconcileCounts(fromId, toId, LocalDateTime.now());
+            lastId = toId;
+        }
+
+        if (repaired > 0) {
+            log.warn("::: todo 카운터 {}건 보정", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+@Service
+public class TodoDetailService {
+
+    private final TodoService todoService;
+    private final ManagerService managerService;
+    private final CommentService commentService;
+    private final Executor todoFetchExecutor;
+
+    public TodoDetailService(
+            TodoService todoService,
+            ManagerService managerService,
+            CommentService commentService,
+            @Qualifier("todoFetchExecutor") Executor todoFetchExecutor
+    ) {
+        this.todoService = todoService;
+        this.managerService = managerService;
+        this.commentService = commentService;
+        this.todoFetchExecutor = todoFetchExecutor;
+    }
+
+    /**
+     * todo, 담당자 목록, 댓글 목록을 한 번에 조회합니다.
+     * 세 조회는 서로 독립적이라 담당자/댓글은 별도 스레드에서 (각자 read-only 트랜잭션으로) 동시에 실행하고,
+     * todo 존재 확인은 todo 조회가 대신하므로 담당자 조회 전 findById는 하지 않습니다. (총 3 query)
+     * 이 메서드 자체는 트랜잭션을 잡지 않아 기다리는 동안 커넥션을 점유하지 않습니다.
+     */
+    public TodoDetailResponse getTodoDetail(long todoId) {
+        CompletableFuture<List<ManagerResponse>> managers =
+                CompletableFuture.supplyAsync(() -> managerService.getManagersByTodoId(todoId), todoFetchExecutor);
+        CompletableFuture<List<CommentResponse>> comments =
+                CompletableFuture.supplyAsync(() -> commentService.getComments(todoId), todoFetchExecutor);
+
+        TodoResponse todo;
+        try {
+            todo = todoService.getTodo(todoId);
+        } catch (RuntimeException e) {
+            managers.cancel(false);
+            comments.cancel(false);
+            throw e;
+        }
+
+        return new TodoDetailResponse(todo, join(managers), join(comments));
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("일정 상세 조회에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.export.ExportFormat;
+import org.example.expert.domain.common.export.StreamingExporter;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final StreamingExporter streamingExporter;
+
+    /**
+     * 전체 todo를 id 순서로 내보냅니다.
+     * OFFSET 페이징 없이 하나의 커서로 읽으면서 바로 응답에 씁니다.
+     * @return 내보낸 row 수
+     */
+    @Transactional(readOnly = true)
+    public long exportTodos(ExportFormat format, OutputStream outputStream) {
+        try (Stream<TodoExportRow> rows = todoRepository.streamAllForExport()) {
+            return streamingExporter.write(rows, format, TodoExportRow.CSV_HEADER, TodoExportRow::toCsvColumns, outputStream);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private static final int MAX_REPORTED_FAILED_LINES = 100;
+
+    private final TodoBulkRepository todoBulkRepository;
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public TodoImportService(
+            TodoBulkRepository todoBulkRepository,
+            WeatherClient weatherClient,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${todo.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.todoBulkRepository = todoBulkRepository;
+        this.weatherClient = weatherClient;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * NDJSON(한 줄에 TodoSaveRequest 하나)을 한 줄씩 읽어 chunk 단위로 저장합니다.
+     * chunk마다 별도 트랜잭션으로 커밋하므로 중간에 실패해도 이전 chunk는 유지됩니다.
+     * 저장에 실패한 chunk는 롤백하고 그 줄들을 실패로 보고한 뒤 다음 줄부터 계속 진행합니다.
+     * 단건 생성과 같이 todo마다 TODO_CREATED 이벤트를 발행하며, 커밋된 chunk의 todo만 전달됩니다.
+     * @param authUser 가져온 todo의 작성자
+     * @param inputStream NDJSON 요청 본문
+     * @return 처리 결과 (전체 줄 수, 저장 수, 실패 수, 커밋된 chunk 수, 실패한 chunk 수)
+     */
+    public TodoImportResponse importTodos(AuthUser authUser, InputStream inputStream) {
+        User user = User.fromAuthUser(authUser);
+        ImportProgress progress = new ImportProgress();
+
+        List<Todo> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        // 날씨는 row마다가 아니라 날짜가 바뀔 때만 다시 조회합니다.
+        LocalDate weatherDate = null;
+        String weather = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                progress.lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+
+                TodoSaveRequest request = parseLine(line);
+                if (request == null || !StringUtils.hasText(request.getTitle()) || !StringUtils.hasText(request.getContents())) {
+                    progress.fail(progress.lineNumber);
+                    continue;
+                }
+
+                LocalDate today = LocalDate.now();
+                if (!today.equals(weatherDate)) {
+                    weather = weatherClient.getTodayWeather();
+                    weatherDate = today;
+                }
+
+                chunk.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+                chunkLines.add(progress.lineNumber);
+
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, chunkLines, progress);
+                }
+            }
+        } catch (IOException e) {
+            throw new ServerException("todo import 요청 본문을 읽는데 실패했습니다. 저장된 todo: " + progress.importedCount + "건");
+        }
+
+        if (!chunk.isEmpty()) {
+            flush(chunk, chunkLines, progress);
+        }
+
+        return progress.toResponse();
+    }
+
+    private TodoSaveRequest parseLine(String line) {
+        try {
+            return objectMapper.readValue(line, TodoSaveRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void flush(List<Todo> chunk, List<Long> chunkLines, ImportProgress progress) {
+        try {
+            long[] todoIds = transactionTemplate.execute(status -> {
+                long[] savedIds = todoBulkRepository.saveAllWithOwnerManager(chunk);
+                // AFTER_COMMIT 리스너로 전달되므로 롤백된 chunk의 todo는 알리지 않습니다.
+                for (long todoId : savedIds) {
+                    eventPublisher.publishEvent(new ChangeEvent(ChangeType.TODO_CREATED, todoId, todoId));
+                }
+                return savedIds;
+            });
+            progress.importedCount += todoIds == null ? 0 : todoIds.length;
+            progress.committedChunks++;
+            log.info("::: todo import chunk {} committed, 누적 {}건 (line {})",
+                    progress.committedChunks, progress.importedCount, progress.lineNumber);
+        } catch (DataAccessException | TransactionException e) {
+            // 롤백된 chunk만 실패로 보고하고, 이미 커밋된 chunk와 남은 줄은 그대로 진행합니다.
+            progress.failedChunks++;
+            chunkLines.forEach(progress::fail);
+            log.error("::: todo import chunk 실패, {}건 롤백 (line {}~{})",
+                    chunk.size(), chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e);
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static final class ImportProgress {
+        private final TreeSet<Long> failedLines = new TreeSet<>();
+        private long lineNumber;
+        private long importedCount;
+        private long failedCount;
+        private int committedChunks;
+        private int failedChunks;
+
+        // 실패한 줄 번호는 앞에서부터 MAX_REPORTED_FAILED_LINES 개만 남깁니다.
+        private void fail(long line) {
+            failedCount++;
+            failedLines.add(line);
+            if (failedLines.size() > MAX_REPORTED_FAILED_LINES) {
+                failedLines.pollLast();
+            }
+        }
+
+        private TodoImportResponse toResponse() {
+            return new TodoImportResponse(lineNumber, importedCount, failedCount, committedChunks, failedChunks,
+                    new ArrayList<>(failedLines));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.collection.LongLongHashMap;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * todoId → 작성자 id 캐시
+ * 댓글/담당자 등록 시 Todo 엔티티를 읽지 않고 존재 여부와 작성자를 확인하는 데 사용합니다.
+ * 없는 항목은 작성자 id만 projection으로 조회해 채우고, todo 생성/삭제 시 함께 갱신합니다.
+ * 다른 노드에서 삭제된 todo는 이 노드에 무효화가 오지 않으므로 항목은 ttl이 지나면 다시 읽습니다.
+ * 캐시는 존재 확인을 빠르게 할 뿐이고, 쓰기 경로는 카운터 UPDATE의 deleted_at 조건으로 한 번 더 확인합니다.
+ */
+@Component
+public class TodoOwnerCache {
+
+    private static final long MISSING = -1L;
+
+    private final TodoRepository todoRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongLongHashMap owners;
+    private final LongLongHashMap expiresAt;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 무효화 횟수, 로딩 도중 무효화가 있었으면 읽은 값을 저장하지 않습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TodoOwnerCache(
+            TodoRepository todoRepository,
+            @Value("${todo.owner-cache.max-size:1000000}") int maxSize,
+            @Value("${todo.owner-cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.todoRepository = todoRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.owners = new LongLongHashMap(Math.min(maxSize, 1024));
+        this.expiresAt = new LongLongHashMap(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * @return 작성자 id, todo가 없거나 삭제됐으면 empty
+     */
+    public Optional<Long> findOwnerId(long todoId) {
+        lock.readLock().lock();
+        try {
+            long ownerId = owners.get(todoId, MISSING);
+            if (ownerId != MISSING && expiresAt.get(todoId, 0L) > System.currentTimeMillis()) {
+                return Optional.of(ownerId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 조회와 저장 사이에 삭제(evict)가 끼면 삭제 전 값을 다시 넣게 되므로 그때는 저장하지 않습니다.
+        // 없는 todo는 캐시하지 않습니다. 이후 생성되면 putAfterCommit으로 들어옵니다.
+        long invalidationsBefore = invalidations.get();
+        Optional<Long> loaded = todoRepository.findOwnerIdById(todoId);
+        loaded.ifPresent(ownerId -> {
+            if (invalidations.get() == invalidationsBefore) {
+                put(todoId, ownerId);
+            }
+        });
+        return loaded;
+    }
+
+    // 롤백된 todo가 캐시에 남지 않도록 커밋 후에 넣습니다.
+    public void putAfterCommit(Long todoId, Long ownerId) {
+        afterCommit(() -> put(todoId, ownerId));
+    }
+
+    // 커밋 전 조회가 삭제 전 값을 다시 채울 수 있어 지금과 커밋 후 두 번 지웁니다.
+    public void evict(Long todoId) {
+        remove(todoId);
+        afterCommit(() -> remove(todoId));
+    }
+
+    private void put(long todoId, long ownerId) {
+        lock.writeLock().lock();
+        try {
+            // 크기 상한을 넘으면 비우고 다시 채웁니다. 값은 DB에서 언제든 다시 읽을 수 있습니다.
+            if (owners.size() >= maxSize) {
+                owners.clear();
+                expiresAt.clear();
+            }
+            owners.put(todoId, ownerId);
+            expiresAt.put(todoId, System.currentTimeMillis() + ttlMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(long todoId) {
+        invalidations.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            owners.remove(todoId);
+            expiresAt.remove(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
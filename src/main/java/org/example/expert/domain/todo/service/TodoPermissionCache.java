@@ -0,0 +1,263 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.enums.TodoPermission;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, todoId) → 권한(OWNER / MANAGER / NONE) 캐시
+ * 담당자 관련 API의 권한 확인을 hit 시 쿼리 없이 처리합니다.
+ * 항목은 ttl이 지나면 다시 읽고, 담당자 등록/해제와 todo 삭제 시 무효화합니다.
+ * lock을 나눠 잡도록 segment별 open addressing 테이블(박싱 없는 long 배열)에 저장합니다.
+ */
+@Component
+public class TodoPermissionCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final TodoOwnerCache todoOwnerCache;
+    private final ManagerRepository managerRepository;
+    private final long ttlMillis;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    // 무효화 횟수, 로딩 도중 무효화가 있었으면 읽은 값을 저장하지 않습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TodoPermissionCache(
+            TodoOwnerCache todoOwnerCache,
+            ManagerRepository managerRepository,
+            @Value("${todo.permission-cache.ttl:PT5M}") Duration ttl,
+            @Value("${todo.permission-cache.max-size:100000}") int maxSize
+    ) {
+        this.todoOwnerCache = todoOwnerCache;
+        this.managerRepository = managerRepository;
+        this.ttlMillis = ttl.toMillis();
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(Math.max(1, maxSize / SEGMENTS));
+        }
+    }
+
+    public TodoPermission getPermission(long userId, long todoId) {
+        Segment segment = segmentFor(userId, todoId);
+        long now = System.currentTimeMillis();
+        TodoPermission cached = segment.get(userId, todoId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        TodoPermission loaded = load(userId, todoId);
+        if (invalidations.get() == invalidationsBefore) {
+            segment.put(userId, todoId, loaded, now + ttlMillis);
+        }
+        return loaded;
+    }
+
+    // 작성자 확인은 TodoOwnerCache로 하고, 담당자 여부만 DB에서 확인합니다.
+    private TodoPermission load(long userId, long todoId) {
+        Long ownerId = todoOwnerCache.findOwnerId(todoId).orElse(null);
+        if (ownerId == null) {
+            return TodoPermission.NONE;
+        }
+        if (ownerId == userId) {
+            return TodoPermission.OWNER;
+        }
+        return managerRepository.existsByTodoIdAndUserId(todoId, userId) ? TodoPermission.MANAGER : TodoPermission.NONE;
+    }
+
+    // 담당자 등록: 해당 유저 항목만 지금과 커밋 후에 지웁니다.
+    public void evict(long userId, long todoId) {
+        invalidations.incrementAndGet();
+        segmentFor(userId, todoId).remove(userId, todoId);
+        afterCommit(() -> {
+            invalidations.incrementAndGet();
+            segmentFor(userId, todoId).remove(userId, todoId);
+        });
+    }
+
+    // 담당자 해제/todo 삭제: 누가 빠졌는지 이벤트에 없으므로 todo의 항목을 모두 지웁니다. (쓰기 때만 전체 scan)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent changeEvent) {
+        if (changeEvent.getType() == ChangeType.MANAGER_REMOVED || changeEvent.getType() == ChangeType.TODO_DELETED) {
+            evictTodo(changeEvent.getTodoId());
+        }
+    }
+
+    public void evictTodo(long todoId) {
+        invalidations.incrementAndGet();
+        for (Segment segment : segments) {
+            segment.removeTodo(todoId);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(long userId, long todoId) {
+        return segments[(int) (mix(userId, todoId) >>> 60) & (SEGMENTS - 1)];
+    }
+
+    private static long mix(long userId, long todoId) {
+        long h = userId * 0x9E3779B97F4A7C15L ^ todoId * 0xC2B2AE3D27D4EB4FL;
+        return h ^ (h >>> 29);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * (userId, todoId) 두 key를 쓰는 open addressing 테이블 (linear probing, backward shift deletion)
+     * value에는 만료 시각(ms)과 권한을 함께 넣습니다: expiresAt << 2 | ordinal
+     * userId 0은 빈 칸 표시로 사용합니다. (snowflake id는 0이 나오지 않습니다)
+     */
+    private static final class Segment {
+        private static final long EMPTY = 0L;
+        private static final TodoPermission[] PERMISSIONS = TodoPermission.values();
+
+        private final long[] userIds;
+        private final long[] todoIds;
+        private final long[] values;
+        private final int mask;
+        private final int maxSize;
+        private int size;
+
+        private Segment(int maxSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, maxSize * 2) - 1) << 1;
+            this.userIds = new long[capacity];
+            this.todoIds = new long[capacity];
+            this.values = new long[capacity];
+            this.mask = capacity - 1;
+            this.maxSize = maxSize;
+        }
+
+        private synchronized TodoPermission get(long userId, long todoId, long now) {
+            int i = find(userId, todoId);
+            if (i < 0) {
+                return null;
+            }
+            long value = values[i];
+            if ((value >>> 2) <= now) {
+                removeAt(i);
+                return null;
+            }
+            return PERMISSIONS[(int) (value & 3)];
+        }
+
+        private synchronized void put(long userId, long todoId, TodoPermission permission, long expiresAt) {
+            long value = (expiresAt << 2) | permission.ordinal();
+            int i = find(userId, todoId);
+            if (i >= 0) {
+                values[i] = value;
+                return;
+            }
+            // 상한에 닿으면 비우고 다시 채웁니다. 값은 언제든 다시 계산할 수 있습니다.
+            if (size >= maxSize) {
+                clear();
+            }
+            i = index(userId, todoId);
+            while (userIds[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            userIds[i] = userId;
+            todoIds[i] = todoId;
+            values[i] = value;
+            size++;
+        }
+
+        private synchronized void remove(long userId, long todoId) {
+            int i = find(userId, todoId);
+            if (i >= 0) {
+                removeAt(i);
+            }
+        }
+
+        private synchronized void removeTodo(long todoId) {
+            int i = 0;
+            while (i < userIds.length) {
+                // 삭제 후 뒤 항목이 i로 당겨질 수 있어 같은 칸을 다시 확인합니다.
+                if (userIds[i] != EMPTY && todoIds[i] == todoId) {
+                    removeAt(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private int find(long userId, long todoId) {
+            int i = index(userId, todoId);
+            while (true) {
+                long u = userIds[i];
+                if (u == EMPTY) {
+                    return -1;
+                }
+                if (u == userId && todoIds[i] == todoId) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void removeAt(int i) {
+            int hole = i;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                long u = userIds[j];
+                if (u == EMPTY) {
+                    break;
+                }
+                int home = index(u, todoIds[j]);
+                if (((j - home) & mask) >= ((j - hole) & mask)) {
+                    userIds[hole] = u;
+                    todoIds[hole] = todoIds[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            userIds[hole] = EMPTY;
+            todoIds[hole] = 0L;
+            values[hole] = 0L;
+            size--;
+        }
+
+        private void clear() {
+            Arrays.fill(userIds, EMPTY);
+            Arrays.fill(todoIds, 0L);
+            Arrays.fill(values, 0L);
+            size = 0;
+        }
+
+        private int index(long userId, long todoId) {
+            long h = mix(userId, todoId);
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoPurgeStatusResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class TodoPurger {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final int batchSize;
+    private final int chunkSize;
+
+    private final AtomicLong purgedTodos = new AtomicLong();
+    private final AtomicLong purgedComments = new AtomicLong();
+    private final AtomicLong purgedManagers = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunMillis;
+
+    public TodoPurger(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            @Value("${todo.purge.batch-size:100}") int batchSize,
+            @Value("${todo.purge.chunk-size:500}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.purge.delay:PT10S}", initialDelayString = "${todo.purge.delay:PT10S}")
+    public void scheduledPurge() {
+        purge();
+    }
+
+    /**
+     * soft-delete 된 todo의 댓글, 담당자, todo row 순서로 지웁니다.
+     * 문장마다 최대 chunkSize 건만 지우고 각각 별도 트랜잭션으로 커밋하므로,
+     * 중간에 실패해도 다음 실행에서 남은 row부터 이어서 처리합니다.
+     * @return 삭제된 todo 수
+     */
+    public int purge() {
+        long startedAt = System.currentTimeMillis();
+        int purged = 0;
+
+        while (true) {
+            List<Todo> pending = todoRepository.findPendingPurge(batchSize);
+            if (pending.isEmpty()) {
+                break;
+            }
+            for (Todo todo : pending) {
+                purged += purgeTodo(todo.getId());
+            }
+            if (pending.size() < batchSize) {
+                break;
+            }
+        }
+
+        lastRunAt = LocalDateTime.now();
+        lastRunMillis = System.currentTimeMillis() - startedAt;
+        if (purged > 0) {
+            log.info("::: 삭제된 todo {}건 정리 ({}ms)", purged, lastRunMillis);
+        }
+        return purged;
+    }
+
+    private int purgeTodo(Long todoId) {
+        int deleted;
+        do {
+            deleted = commentRepository.deleteChunkByTodoId(todoId, chunkSize);
+            purgedComments.addAndGet(deleted);
+        } while (deleted == chunkSize);
+
+        do {
+            deleted = managerRepository.deleteChunkByTodoId(todoId, chunkSize);
+            purgedManagers.addAndGet(deleted);
+        } while (deleted == chunkSize);
+
+        int purged = todoRepository.purgeById(todoId);
+        purgedTodos.addAndGet(purged);
+        return purged;
+    }
+
+    /**
+     * purge 지연 지표
+     * lag은 가장 오래 대기 중인 todo가 삭제 요청된 뒤 지난 시간입니다.
+     */
+    public TodoPurgeStatusResponse getStatus() {
+        long pendingCount = todoRepository.countPendingPurge();
+        long lagSeconds = todoRepository.findPendingPurge(1).stream()
+                .findFirst()
+                .map(todo -> Duration.between(todo.getDeletedAt(), LocalDateTime.now()).toSeconds())
+                .orElse(0L);
+
+        return new TodoPurgeStatusResponse(
+                pendingCount,
+                lagSeconds,
+                purgedTodos.get(),
+                purgedComments.get(),
+                purgedManagers.get(),
+                lastRunAt,
+                lastRunMillis
+        );
+    }
+}
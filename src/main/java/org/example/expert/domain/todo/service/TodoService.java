@@ -1,29 +1,51 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.TrackTime;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.service.UserDirectory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoOwnerCache todoOwnerCache;
+    private final UserDirectory userDirectory;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,6 +60,8 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoOwnerCache.putAfterCommit(savedTodo.getId(), user.getId());
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.TODO_CREATED, savedTodo.getId(), savedTodo.getId()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,36 +72,182 @@ public class TodoService {
         );
     }
 
+    /**
+     * 낙관적 락으로 todo를 수정합니다.
+     * 버전/권한 비교를 WHERE 절에 넣은 단일 UPDATE만 실행하고, 실패한 경우에만 원인을 조회합니다.
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (If-Match 또는 요청 본문)
+     * @return 수정 후 버전
+     */
+    @Transactional
+    public TodoUpdateResponse updateTodo(AuthUser authUser, long todoId, TodoUpdateRequest todoUpdateRequest, Long expectedVersion) {
+        if (expectedVersion == null) {
+            throw new InvalidRequestException("If-Match 헤더 또는 version이 필요합니다.");
+        }
+        if (todoUpdateRequest.getTitle() == null && todoUpdateRequest.getContents() == null) {
+            throw new InvalidRequestException("수정할 내용이 없습니다.");
+        }
+
+        int updated = todoRepository.updateIfVersionMatches(
+                todoId,
+                authUser.getId(),
+                expectedVersion,
+                todoUpdateRequest.getTitle(),
+                todoUpdateRequest.getContents(),
+                LocalDateTime.now()
+        );
+
+        if (updated == 0) {
+            TodoVersion current = todoRepository.findVersionById(todoId)
+                    .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+            if (current.getVersion() != expectedVersion) {
+                throw new ConflictException("다른 사용자가 먼저 수정했습니다. 현재 버전: " + current.getVersion());
+            }
+            throw new InvalidRequestException("일정의 담당자만 수정할 수 있습니다.");
+        }
+
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.TODO_UPDATED, todoId, todoId));
+        return new TodoUpdateResponse(todoId, expectedVersion + 1);
+    }
+
+    /**
+     * todo를 soft-delete 합니다.
+     * 댓글/담당자 삭제는 요청 트랜잭션에서 하지 않고 TodoPurger가 나중에 chunk 단위로 처리합니다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        int deleted = todoRepository.softDelete(todoId, authUser.getId(), LocalDateTime.now());
+
+        if (deleted == 0) {
+            if (!todoRepository.existsById(todoId)) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            throw new InvalidRequestException("일정 작성자만 삭제할 수 있습니다.");
+        }
+        todoOwnerCache.evict(todoId);
+        eventPublisher.publishEvent(new ChangeEvent(ChangeType.TODO_DELETED, todoId, todoId));
+    }
+
+    @TrackTime
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        Map<Long, UserResponse> users = userDirectory.resolveAll(todos.map(todo -> todo.getUser().getId()).getContent());
 
         return todos.map(todo -> new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                users.get(todo.getUser().getId()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         ));
     }
 
+    /**
+     * 내가 만든(owner) 또는 담당한(manager) todo를 keyset으로 조회합니다.
+     * 페이지마다 인덱스 순서대로 size + 1 건만 읽고 count 쿼리는 하지 않습니다.
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @TrackTime
+    public TodoCursorResponse getMyTodos(AuthUser authUser, String role, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        boolean owner = "owner".equalsIgnoreCase(role);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Todo> todos;
+        if (owner) {
+            todos = cursor == null
+                    ? todoRepository.findOwnedFirstPage(authUser.getId(), limit)
+                    : findOwnedAfter(authUser.getId(), cursor, limit);
+        } else if ("manager".equalsIgnoreCase(role)) {
+            todos = todoRepository.findManagedBefore(authUser.getId(), cursor == null ? Long.MAX_VALUE : parseCursorId(cursor), limit);
+        } else {
+            throw new InvalidRequestException("role은 owner 또는 manager 여야 합니다.");
+        }
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = todos.get(todos.size() - 1);
+            nextCursor = owner
+                    ? last.getModifiedAt() + CURSOR_SEPARATOR + last.getId()
+                    : String.valueOf(last.getId());
+        }
+
+        // 담당 목록의 작성자는 FK id로 디렉터리에서 찾습니다.
+        Map<Long, UserResponse> users = owner
+                ? Map.of()
+                : userDirectory.resolveAll(todos.stream().map(todo -> todo.getUser().getId()).toList());
+
+        List<TodoResponse> responses = todos.stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        // 작성자 목록은 user를 join하지 않고 요청자 정보로 채웁니다.
+                        owner
+                                ? new UserResponse(authUser.getId(), authUser.getEmail())
+                                : users.get(todo.getUser().getId()),
+                        todo.getCommentCount(),
+                        todo.getManagerCount(),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList();
+        return new TodoCursorResponse(responses, nextCursor, hasNext);
+    }
+
+    // owner cursor는 "modifiedAt_id" 형식입니다.
+    private List<Todo> findOwnedAfter(Long userId, String cursor, Pageable limit) {
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+        try {
+            LocalDateTime cursorAt = LocalDateTime.parse(cursor.substring(0, separator));
+            return todoRepository.findOwnedAfter(userId, cursorAt, parseCursorId(cursor.substring(separator + 1)), limit);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    private static long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    @TrackTime
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
-
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
+                userDirectory.resolve(todo.getUser().getId()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         );
     }
+
+    public Optional<TodoVersion> findTodoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId);
+    }
 }
@@ -1,11 +1,20 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserCursorResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -14,8 +23,28 @@ public class UserAdminController {
 
     private final UserAdminService userAdminService;
 
+    @GetMapping("/admin/users")
+    public ResponseEntity<UserCursorResponse> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String emailPrefix,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userAdminService.getUsers(role, emailPrefix, cursor, size));
+    }
+
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @PostMapping("/admin/users/bulk-role-change")
+    public ResponseEntity<UserBulkRoleChangeResponse> bulkChangeUserRole(@Valid @RequestBody UserBulkRoleChangeRequest userBulkRoleChangeRequest) {
+        return ResponseEntity.ok(userAdminService.bulkChangeUserRole(userBulkRoleChangeRequest));
+    }
+
+    @GetMapping("/admin/users/profile-cache")
+    public ResponseEntity<UserCacheStatsResponse> getProfileCacheStats() {
+        return ResponseEntity.ok(userAdminService.getProfileCacheStats());
+    }
 }
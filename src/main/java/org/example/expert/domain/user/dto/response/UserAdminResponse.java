@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserAdminResponse {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    private final LocalDateTime createdAt;
+
+    public UserAdminResponse(Long id, String email, UserRole userRole, LocalDateTime createdAt) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+        this.createdAt = createdAt;
+    }
+}
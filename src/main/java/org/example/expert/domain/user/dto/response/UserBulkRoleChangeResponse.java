@@ -0,0 +1,31 @@
+package org.example.expert.domain.user.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.util.List;
+
+@Getter
+public class UserBulkRoleChangeResponse {
+
+    private final UserRole role;
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private final List<Long> changedUserIds;
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private final List<Long> unchangedUserIds; // 이미 같은 권한이던 유저
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private final List<Long> notFoundUserIds;
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    private final List<Long> failedUserIds; // chunk 트랜잭션이 실패해 변경되지 않은 유저
+
+    public UserBulkRoleChangeResponse(UserRole role, List<Long> changedUserIds, List<Long> unchangedUserIds, List<Long> notFoundUserIds,
+                                      List<Long> failedUserIds) {
+        this.role = role;
+        this.changedUserIds = changedUserIds;
+        this.unchangedUserIds = unchangedUserIds;
+        this.notFoundUserIds = notFoundUserIds;
+        this.failedUserIds = failedUserIds;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserCacheStatsResponse {
+
+    private final long hits;
+    private final long misses;
+    private final double hitRate; // hits / (hits + misses), 요청이 없으면 0
+    private final long evictions; // 밀려나거나 입장을 거절당한 항목 수
+    private final int size;
+
+    public UserCacheStatsResponse(long hits, long misses, double hitRate, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.evictions = evictions;
+        this.size = size;
+    }
+}
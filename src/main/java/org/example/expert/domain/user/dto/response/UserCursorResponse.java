@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserCursorResponse {
+
+    private final List<UserAdminResponse> users;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private final Long nextCursor; // 다음 요청의 cursor, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public UserCursorResponse(List<UserAdminResponse> users, Long nextCursor, boolean hasNext) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
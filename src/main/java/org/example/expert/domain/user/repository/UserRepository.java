@@ -1,11 +1,54 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserAdminResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 조회 응답용 projection, password 컬럼은 읽지 않습니다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) FROM User u WHERE u.id = :userId")
+    Optional<UserResponse> findProfileById(@Param("userId") Long userId);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) FROM User u WHERE u.id IN :userIds")
+    List<UserResponse> findProfilesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 유저 디렉터리 로딩용: id 순서 keyset
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserResponse> findProfilesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 관리자 목록: password를 제외한 projection, id keyset (emailPrefix는 '!'로 이스케이프된 LIKE 패턴 또는 null)
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserAdminResponse(u.id, u.email, u.userRole, u.createdAt) " +
+            "FROM User u WHERE u.id > :cursor AND (:emailPrefix IS NULL OR u.email LIKE :emailPrefix ESCAPE '!') ORDER BY u.id")
+    List<UserAdminResponse> findAdminPage(@Param("emailPrefix") String emailPrefix, @Param("cursor") Long cursor, Pageable pageable);
+
+    // role 필터는 idx_users_user_role_id 순서 그대로 읽습니다.
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserAdminResponse(u.id, u.email, u.userRole, u.createdAt) " +
+            "FROM User u WHERE u.userRole = :role AND u.id > :cursor AND (:emailPrefix IS NULL OR u.email LIKE :emailPrefix ESCAPE '!') ORDER BY u.id")
+    List<UserAdminResponse> findAdminPageByRole(@Param("role") UserRole role,
+                                                @Param("emailPrefix") String emailPrefix,
+                                                @Param("cursor") Long cursor,
+                                                Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserAdminResponse(u.id, u.email, u.userRole, u.createdAt) " +
+            "FROM User u WHERE u.id IN :userIds")
+    List<UserAdminResponse> findAdminByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 이미 같은 권한인 row는 건드리지 않습니다.
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :role, u.modifiedAt = :now WHERE u.id IN :userIds AND u.userRole <> :role")
+    int updateRoleByIdIn(@Param("userIds") Collection<Long> userIds, @Param("role") UserRole role, @Param("now") LocalDateTime now);
 }
@@ -1,23 +1,147 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserAdminResponse;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserCursorResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    static final int BULK_ROLE_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        userProfileCache.evict(userId);
+    }
+
+    /**
+     * 여러 유저의 권한을 chunk 단위 UPDATE ... WHERE id IN (...) 로 한 번에 바꿉니다.
+     * chunk마다 대상 권한을 projection으로 읽어 결과를 구분하고, 별도 트랜잭션으로 커밋해 긴 lock을 잡지 않습니다.
+     * 한 chunk가 실패해도 앞서 커밋된 chunk 결과는 버리지 않고, 실패한 chunk의 유저는 failedUserIds로 돌려줍니다.
+     * @return 유저별 결과 (변경됨 / 이미 같은 권한 / 없는 유저 / 실패)
+     */
+    public UserBulkRoleChangeResponse bulkChangeUserRole(UserBulkRoleChangeRequest request) {
+        UserRole role = UserRole.of(request.getRole());
+        List<Long> ids = request.getUserIds().stream().distinct().sorted().toList();
+
+        List<Long> changed = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_ROLE_CHUNK_SIZE) {
+            List<Long> chunkIds = ids.subList(from, Math.min(from + BULK_ROLE_CHUNK_SIZE, ids.size()));
+            // 커밋이 끝난 chunk의 결과만 합치도록 chunk별 목록에 먼저 모읍니다.
+            List<Long> chunkChanged = new ArrayList<>();
+            List<Long> chunkUnchanged = new ArrayList<>();
+            List<Long> chunkNotFound = new ArrayList<>();
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        changeRoleChunk(chunkIds, role, chunkChanged, chunkUnchanged, chunkNotFound));
+            } catch (RuntimeException e) {
+                log.error("::: 권한 일괄 변경 chunk 실패 (유저 {}건, id {}~{})",
+                        chunkIds.size(), chunkIds.get(0), chunkIds.get(chunkIds.size() - 1), e);
+                failed.addAll(chunkIds);
+                continue;
+            }
+            changed.addAll(chunkChanged);
+            unchanged.addAll(chunkUnchanged);
+            notFound.addAll(chunkNotFound);
+            chunkChanged.forEach(userProfileCache::evict);
+        }
+        return new UserBulkRoleChangeResponse(role, changed, unchanged, notFound, failed);
+    }
+
+    private void changeRoleChunk(List<Long> chunkIds, UserRole role, List<Long> changed, List<Long> unchanged, List<Long> notFound) {
+        Map<Long, UserRole> current = new HashMap<>();
+        userRepository.findAdminByIdIn(chunkIds).forEach(user -> current.put(user.getId(), user.getUserRole()));
+
+        List<Long> targets = new ArrayList<>();
+        for (Long userId : chunkIds) {
+            UserRole currentRole = current.get(userId);
+            if (currentRole == null) {
+                notFound.add(userId);
+            } else if (currentRole == role) {
+                unchanged.add(userId);
+            } else {
+                targets.add(userId);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        int updated = userRepository.updateRoleByIdIn(targets, role, LocalDateTime.now());
+        if (updated != targets.size()) {
+            // 조회와 UPDATE 사이 다른 요청이 권한을 바꾼 경우입니다. 최종 권한은 어느 쪽이든 요청한 권한입니다.
+            log.warn("::: 권한 일괄 변경 중 동시 변경 감지 (대상 {}건, 변경 {}건)", targets.size(), updated);
+        }
+        changed.addAll(targets);
+    }
+
+    /**
+     * 유저 목록을 id 순서로 size 건 조회합니다.
+     * 한 건을 더 읽어서 다음 페이지가 있는지 판단하므로 count 쿼리가 없습니다.
+     * @param role 권한 필터 (없으면 전체)
+     * @param emailPrefix 이메일 앞부분 필터 (없으면 전체)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public UserCursorResponse getUsers(String role, String emailPrefix, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        String emailPattern = emailPrefix == null || emailPrefix.isBlank() ? null : toLikePrefix(emailPrefix);
+        long after = cursor == null ? 0L : cursor;
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<UserAdminResponse> users = role == null || role.isBlank()
+                ? userRepository.findAdminPage(emailPattern, after, limit)
+                : userRepository.findAdminPageByRole(UserRole.of(role), emailPattern, after, limit);
+
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+        Long nextCursor = hasNext ? users.get(users.size() - 1).getId() : null;
+
+        return new UserCursorResponse(users, nextCursor, hasNext);
+    }
+
+    // 입력에 들어 있는 LIKE 와일드카드는 글자 그대로 찾도록 이스케이프합니다.
+    private static String toLikePrefix(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    public UserCacheStatsResponse getProfileCacheStats() {
+        return userProfileCache.getStats();
     }
 }
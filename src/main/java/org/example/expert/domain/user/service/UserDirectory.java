@@ -0,0 +1,181 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.collection.LongIntHashMap;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * userId → 이메일 메모리 디렉터리
+ * todo/댓글/담당자 목록이 user를 JOIN FETCH 하지 않고 FK id만 읽은 뒤 여기서 UserResponse를 만듭니다.
+ * 이메일은 UTF-8 바이트로 배열 하나에 이어 붙이고, id → 이메일 번호를 LongIntHashMap으로 찾습니다.
+ * 이메일은 유저마다 유일하므로 같은 유저를 다시 넣으면 기존 번호를 그대로 씁니다.
+ *
+ * 천만 유저, 평균 이메일 20바이트 기준 메모리: id 테이블 2^24칸 × 12B = 192MiB,
+ * 이메일 바이트 ≈ 191MiB, offset int[] ≈ 38MiB, 합계 ≈ 421MiB (배열 확장 여유분 제외)
+ * 같은 내용을 HashMap&lt;Long, UserResponse&gt;로 두면 항목당 약 150B(노드, Long, UserResponse, String, byte[])로 ≈ 1.4GiB 입니다.
+ *
+ * 시작 시 전체를 keyset으로 읽어 채우고 가입 시 커밋 후 추가합니다.
+ * 로딩 전이나 다른 인스턴스에서 가입한 유저처럼 없는 id는 projection IN 쿼리로 채웁니다.
+ */
+@Slf4j
+@Component
+public class UserDirectory {
+
+    private static final int MISSING = -1;
+
+    private final UserRepository userRepository;
+    private final int loadPageSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongIntHashMap slots = new LongIntHashMap(1024);
+    private byte[] emailBytes = new byte[16 * 1024];
+    private int[] emailOffsets = new int[1025]; // i번째 이메일은 [emailOffsets[i], emailOffsets[i + 1])
+    private int emailCount;
+
+    public UserDirectory(
+            UserRepository userRepository,
+            @Value("${user.directory.load-page-size:10000}") int loadPageSize
+    ) {
+        this.userRepository = userRepository;
+        this.loadPageSize = loadPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        while (true) {
+            List<UserResponse> page = userRepository.findProfilesAfter(lastId, PageRequest.of(0, loadPageSize));
+            putAll(page);
+            if (page.size() < loadPageSize) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+        log.info("::: 유저 디렉터리 {}명 로딩 ({}ms, {}KiB)", size(), System.currentTimeMillis() - startedAt, footprintBytes() / 1024);
+    }
+
+    // 롤백된 가입이 남지 않도록 커밋 후에 넣습니다.
+    public void putAfterCommit(Long userId, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putAll(List.of(new UserResponse(userId, email)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                putAll(List.of(new UserResponse(userId, email)));
+            }
+        });
+    }
+
+    /**
+     * @return 유저 정보, 없는 유저면 null
+     */
+    public UserResponse resolve(long userId) {
+        return resolveAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * @return userId → 유저 정보 (없는 유저는 포함되지 않음)
+     */
+    public Map<Long, UserResponse> resolveAll(Collection<Long> userIds) {
+        Map<Long, UserResponse> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long userId : userIds) {
+                if (found.containsKey(userId)) {
+                    continue;
+                }
+                int slot = slots.get(userId, MISSING);
+                if (slot == MISSING) {
+                    missingIds.add(userId);
+                } else {
+                    found.put(userId, new UserResponse(userId, email(slot)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!missingIds.isEmpty()) {
+            List<UserResponse> loaded = userRepository.findProfilesByIdIn(missingIds.stream().distinct().toList());
+            putAll(loaded);
+            for (UserResponse user : loaded) {
+                found.put(user.getId(), user);
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 디렉터리 배열이 차지하는 바이트 수 (객체 헤더 제외)
+    public long footprintBytes() {
+        lock.readLock().lock();
+        try {
+            return slots.tableBytes() + emailBytes.length + (long) emailOffsets.length * Integer.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putAll(List<UserResponse> users) {
+        lock.writeLock().lock();
+        try {
+            for (UserResponse user : users) {
+                int slot = slots.get(user.getId(), MISSING);
+                if (slot != MISSING && email(slot).equals(user.getEmail())) {
+                    continue;
+                }
+                slots.put(user.getId(), appendEmail(user.getEmail()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int appendEmail(String email) {
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        int start = emailOffsets[emailCount];
+        if (start + bytes.length > emailBytes.length) {
+            emailBytes = Arrays.copyOf(emailBytes, Math.max(emailBytes.length * 2, start + bytes.length));
+        }
+        if (emailCount + 2 > emailOffsets.length) {
+            emailOffsets = Arrays.copyOf(emailOffsets, emailOffsets.length * 2);
+        }
+        System.arraycopy(bytes, 0, emailBytes, start, bytes.length);
+        emailOffsets[emailCount + 1] = start + bytes.length;
+        return emailCount++;
+    }
+
+    private String email(int slot) {
+        int start = emailOffsets[slot];
+        return new String(emailBytes, start, emailOffsets[slot + 1] - start, StandardCharsets.UTF_8);
+    }
+}
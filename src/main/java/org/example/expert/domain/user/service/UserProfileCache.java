@@ -0,0 +1,262 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * userId → UserResponse read-through 캐시 (W-TinyLFU 방식)
+ * 새 항목은 작은 window LRU에 먼저 들어가고, window에서 밀려날 때
+ * main LRU의 희생 후보보다 최근 접근 빈도가 높을 때만 main에 들어갑니다.
+ * 빈도는 4bit count-min sketch로 추정하고 주기적으로 절반으로 줄여 오래된 인기도를 잊습니다.
+ * 미스 시에는 password 컬럼을 읽지 않는 projection으로 id, email만 조회합니다.
+ */
+@Component
+public class UserProfileCache {
+
+    // IN 절 하나에 넣는 최대 id 수
+    static final int LOAD_CHUNK_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final int windowMaxSize;
+    private final int mainMaxSize;
+    private final LinkedHashMap<Long, UserResponse> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, UserResponse> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            @Value("${user.profile-cache.max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        // 전체의 1%를 window로 사용합니다.
+        this.windowMaxSize = Math.max(1, maxSize / 100);
+        this.mainMaxSize = Math.max(1, maxSize - windowMaxSize);
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    /**
+     * @return 유저 정보, 없는 유저면 empty (없는 결과는 캐시하지 않습니다)
+     */
+    public Optional<UserResponse> findById(long userId) {
+        UserResponse cached;
+        lock.lock();
+        try {
+            sketch.increment(userId);
+            cached = window.get(userId);
+            if (cached == null) {
+                cached = main.get(userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Optional.of(cached);
+        }
+
+        misses.incrementAndGet();
+        Optional<UserResponse> loaded = userRepository.findProfileById(userId);
+        loaded.ifPresent(user -> put(userId, user));
+        return loaded;
+    }
+
+    /**
+     * 캐시에 있는 유저는 그대로 쓰고, 없는 유저만 LOAD_CHUNK_SIZE 단위 IN 쿼리로 조회해 채웁니다.
+     * @return userId → 유저 정보 (없는 유저는 포함되지 않음)
+     */
+    public Map<Long, UserResponse> findAllById(Collection<Long> userIds) {
+        Map<Long, UserResponse> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Long userId : userIds) {
+                sketch.increment(userId);
+                UserResponse cached = window.get(userId);
+                if (cached == null) {
+                    cached = main.get(userId);
+                }
+                if (cached != null) {
+                    found.put(userId, cached);
+                } else {
+                    missingIds.add(userId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        hits.addAndGet(found.size());
+        misses.addAndGet(missingIds.size());
+
+        for (int from = 0; from < missingIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunkIds = missingIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missingIds.size()));
+            for (UserResponse user : userRepository.findProfilesByIdIn(chunkIds)) {
+                put(user.getId(), user);
+                found.put(user.getId(), user);
+            }
+        }
+        return found;
+    }
+
+    // 커밋 전 조회가 변경 전 값을 다시 채울 수 있어 지금과 커밋 후 두 번 지웁니다.
+    public void evict(long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    public UserCacheStatsResponse getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        int size;
+        lock.lock();
+        try {
+            size = window.size() + main.size();
+        } finally {
+            lock.unlock();
+        }
+        return new UserCacheStatsResponse(
+                hitCount,
+                missCount,
+                requests == 0 ? 0.0 : (double) hitCount / requests,
+                evictions.get(),
+                size
+        );
+    }
+
+    private void put(long userId, UserResponse user) {
+        lock.lock();
+        try {
+            if (main.containsKey(userId)) {
+                main.put(userId, user);
+                return;
+            }
+            window.put(userId, user);
+            if (window.size() <= windowMaxSize) {
+                return;
+            }
+
+            Iterator<Map.Entry<Long, UserResponse>> windowEldest = window.entrySet().iterator();
+            Map.Entry<Long, UserResponse> candidate = windowEldest.next();
+            windowEldest.remove();
+            if (main.size() < mainMaxSize) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+
+            // window에서 밀려난 후보와 main의 가장 오래된 항목 중 자주 쓰인 쪽만 남깁니다.
+            Iterator<Map.Entry<Long, UserResponse>> mainEldest = main.entrySet().iterator();
+            Map.Entry<Long, UserResponse> victim = mainEldest.next();
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                mainEldest.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+            evictions.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(long userId) {
+        lock.lock();
+        try {
+            window.remove(userId);
+            main.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 4bit 카운터 count-min sketch (long 하나에 카운터 16개)
+     * 추가 횟수가 sampleSize에 닿으면 모든 카운터를 절반으로 줄입니다.
+     * 동기화하지 않으므로 호출자가 lock으로 보호해야 합니다.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maxSize) {
+            int size = Integer.highestOneBit(Math.max(16, maxSize) - 1) << 1;
+            this.table = new long[size];
+            this.mask = size - 1;
+            this.sampleSize = 10 * Math.max(16, maxSize);
+        }
+
+        int frequency(long key) {
+            int min = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                long h = hash(key, i);
+                min = Math.min(min, (int) ((table[(int) h & mask] >>> shift(h)) & 0xF));
+            }
+            return min;
+        }
+
+        void increment(long key) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                long h = hash(key, i);
+                int index = (int) h & mask;
+                int shift = shift(h);
+                if (((table[index] >>> shift) & 0xF) < 15) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private static long hash(long key, int row) {
+            long h = (key + SEEDS[row]) * SEEDS[row];
+            return h ^ (h >>> 31);
+        }
+
+        // 상위 4bit로 long 안의 카운터 위치(0~15)를 고릅니다.
+        private static int shift(long h) {
+            return (int) (h >>> 60) << 2;
+        }
+    }
+}
@@ -1,26 +1,74 @@
 package org.example.expert.domain.user.service;
 
-import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.TrackTime;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
+    private final int maxBatchIds;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            UserProfileCache userProfileCache,
+            @Value("${user.batch-get.max-ids:500}") int maxBatchIds
+    ) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userProfileCache = userProfileCache;
+        this.maxBatchIds = maxBatchIds;
+    }
 
+    @TrackTime
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        return new UserResponse(user.getId(), user.getEmail());
+        return userProfileCache.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+    }
+
+    /**
+     * 여러 유저를 한 번에 조회합니다.
+     * 캐시에 없는 유저만 IN 쿼리로 나눠 조회하고, 결과는 요청 순서대로(중복 제거) 돌려줍니다.
+     * 존재하지 않는 id는 결과에서 빠집니다.
+     */
+    @TrackTime
+    public List<UserResponse> getUsers(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new InvalidRequestException("ids는 1개 이상이어야 합니다.");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.size() > maxBatchIds) {
+            throw new InvalidRequestException("ids는 최대 " + maxBatchIds + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Long, UserResponse> found = userProfileCache.findAllById(distinctIds);
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        for (Long userId : distinctIds) {
+            UserResponse user = found.get(userId);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
     }
 
     @Transactional
@@ -39,6 +87,7 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        userProfileCache.evict(userId);
     }
 
     public void validatePassword(UserChangePasswordRequest userChangePasswordRequest) {
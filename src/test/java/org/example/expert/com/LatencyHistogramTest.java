@@ -0,0 +1,68 @@
+package org.example.expert.com;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 백분위_값은_상대오차_3퍼센트_이내다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when: 1µs ~ 100ms 균등 분포
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros * 1_000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(100_000, snapshot.getCount());
+        assertWithin(50_000_000L, snapshot.valueAtPercentile(50));
+        assertWithin(99_000_000L, snapshot.valueAtPercentile(99));
+        assertWithin(99_900_000L, snapshot.valueAtPercentile(99.9));
+        assertWithin(100_000_000L, snapshot.getMaxNanos());
+    }
+
+    @Test
+    void 모든_값은_자기_칸의_상한_이하이고_이전_칸의_상한보다_크다() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long nanos = random.nextLong(1L << 41);
+            int index = LatencyHistogram.bucketIndex(nanos);
+            assertTrue(nanos <= LatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || nanos > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    void 범위를_넘는_값은_마지막_칸에_기록된다() {
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-5));
+    }
+
+    @Test
+    void snapshot_차이는_기준점_이후의_기록만_남긴다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        LatencyHistogram.Snapshot base = histogram.snapshot();
+
+        // when
+        histogram.record(10);
+        histogram.record(20);
+        LatencyHistogram.Snapshot delta = histogram.snapshot().minus(base);
+
+        // then
+        assertEquals(2, delta.getCount());
+        assertEquals(15, delta.getMeanNanos());
+        assertEquals(20, delta.getMaxNanos());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32 + 1, "expected ~" + expected + " but was " + actual);
+    }
+}
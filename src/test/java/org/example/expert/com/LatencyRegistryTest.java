@@ -0,0 +1,48 @@
+package org.example.expert.com;
+
+import org.example.expert.domain.common.dto.LatencyStatsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRegistryTest {
+
+    private final LatencyRegistry latencyRegistry = new LatencyRegistry();
+
+    @Test
+    void interval_조회는_직전_interval_이후_기록만_보고한다() throws Exception {
+        // given
+        Method method = Object.class.getMethod("toString");
+        latencyRegistry.record(method, 2_000_000);
+        latencyRegistry.getStats(true);
+
+        // when
+        latencyRegistry.record(method, 3_000);
+        List<LatencyStatsResponse> interval = latencyRegistry.getStats(true);
+        List<LatencyStatsResponse> total = latencyRegistry.getStats(false);
+
+        // then
+        assertEquals("Object.toString", interval.get(0).getMethod());
+        assertEquals(1, interval.get(0).getCount());
+        assertEquals(3, interval.get(0).getMaxMicros());
+        assertEquals(2, total.get(0).getCount());
+    }
+
+    @Test
+    void reset_이후에는_새로_기록된_값만_보고한다() throws Exception {
+        // given
+        Method method = Object.class.getMethod("hashCode");
+        latencyRegistry.record(method, 5_000);
+
+        // when
+        latencyRegistry.reset();
+        List<LatencyStatsResponse> afterReset = latencyRegistry.getStats(false);
+
+        // then
+        assertEquals(0, afterReset.get(0).getCount());
+        assertEquals(0, afterReset.get(0).getP99Micros());
+    }
+}
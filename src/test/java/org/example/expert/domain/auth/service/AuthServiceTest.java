@@ -11,6 +11,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserDirectory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,6 +37,8 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private UserDirectory userDirectory;
     @InjectMocks
     private AuthService authService;
 /*
@@ -65,6 +68,7 @@ public class AuthServiceTest {
         assertEquals("jwtToken", signupResponse.getBearerToken());
         verify(userRepository).save(any(User.class));
         verify(jwtUtil).createToken(1L, signupRequest.getEmail(), UserRole.USER);
+        verify(userDirectory).putAfterCommit(1L, signupRequest.getEmail());
     }
 
     @Test
@@ -8,8 +8,10 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentListWriter;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -27,17 +29,22 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -66,6 +73,9 @@ class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @MockBean
+    private CommentListWriter commentListWriter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -100,17 +110,11 @@ class CommentControllerTest {
     }
 
     @Test
-    @DisplayName("댓글 조회")
+    @DisplayName("댓글 조회 - 없거나 삭제된 todo면 빈 목록")
     void getComments() throws Exception {
         // given
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
-        List<CommentResponse> commentResponseList = List.of(
-                new CommentResponse(1L, "댓글1", new UserResponse(2L, "user1@asde.com")),
-                new CommentResponse(2L, "댓글2", new UserResponse(3L, "user2@fre.com"))
-        );
-
-        given(commentService.getComments(eq(todoId))).willReturn(commentResponseList);
+        given(commentService.findCommentsVersion(todoId)).willReturn(Optional.empty());
 
         // when & then
         mockMvc.perform(get("/todos/{todoId}/comments", todoId)
@@ -118,7 +122,48 @@ class CommentControllerTest {
                 .requestAttr("id", 1L)
                 .requestAttr("email", "AAA@SDF.com")
                 .requestAttr("userRole", "USER"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        verify(commentService, never()).getComments(todoId);
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 버전이 있으면 직렬화 캐시 경로로 응답")
+    void getCommentsFromCache() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoVersion version = new TodoVersion(todoId, 0L, LocalDateTime.now(), LocalDateTime.now(), 2, 1, null, null);
+        given(commentService.findCommentsVersion(todoId)).willReturn(Optional.of(version));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                        .requestAttr("id", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Truncated"));
+
+        verify(commentListWriter).write(eq(version), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 최대 건수를 넘으면 잘렸다고 알리고 커서 조회를 안내")
+    void getCommentsTruncated() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoVersion version = new TodoVersion(todoId, 0L, LocalDateTime.now(), LocalDateTime.now(),
+                CommentService.MAX_LIST_SIZE + 1, 1, null, null);
+        given(commentService.findCommentsVersion(todoId)).willReturn(Optional.of(version));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", todoId)
+                        .requestAttr("id", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Truncated", "true"))
+                .andExpect(header().string("Link", "</todos/1/comments/cursor?size=" + CommentService.MAX_PAGE_SIZE + ">; rel=\"alternate\""));
     }
 
     // commentAdminController 테스트
@@ -0,0 +1,119 @@
+package org.example.expert.domain.comment.ingest;
+
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.example.expert.domain.comment.repository.CommentBulkRepository;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentIngestDrainerTest {
+
+    @Mock
+    private CommentIngestLog commentIngestLog;
+    @Mock
+    private CommentBulkRepository commentBulkRepository;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentIngestDrainer commentIngestDrainer;
+
+    @BeforeEach
+    void setUp() {
+        commentIngestDrainer = new CommentIngestDrainer(
+                commentIngestLog, commentBulkRepository, todoRepository, eventPublisher, transactionManager, 100);
+    }
+
+    @Test
+    void 저장된_레코드만_댓글수와_이벤트에_반영한다() throws Exception {
+        // given: 2번은 이미 적재됐거나 todo가 삭제된 레코드
+        List<CommentIngestRecord> records = List.of(record(1L, 10L), record(2L, 10L), record(3L, 20L));
+        given(commentIngestLog.readBatch(100)).willReturn(new CommentIngestBatch(records, 300L, 0L), new CommentIngestBatch(List.of(), 0L, 1L));
+        given(commentIngestLog.getGeneration()).willReturn(0L, 1L);
+        given(commentBulkRepository.insertIfAbsent(records, 0L)).willReturn(new boolean[]{true, false, true});
+
+        // when
+        int inserted = commentIngestDrainer.drain();
+
+        // then
+        assertEquals(2, inserted);
+        verify(todoRepository).addCommentCount(10L, 1);
+        verify(todoRepository).addCommentCount(20L, 1);
+        verify(eventPublisher, times(2)).publishEvent(any(ChangeEvent.class));
+        verify(commentIngestLog).commit(300L);
+        // 파일이 비워져 generation이 올라간 뒤에야 이전 generation의 ledger를 지웁니다.
+        verify(commentBulkRepository).deleteLedgerBefore(1L);
+    }
+
+    @Test
+    void 로그_파일이_비워지기_전에는_ledger를_지우지_않는다() throws Exception {
+        // given: 일부만 적재해 checkpoint만 옮기고 파일은 그대로인 경우
+        List<CommentIngestRecord> records = List.of(record(1L, 10L));
+        given(commentIngestLog.readBatch(100)).willReturn(new CommentIngestBatch(records, 100L, 0L), new CommentIngestBatch(List.of(), 100L, 0L));
+        given(commentIngestLog.getGeneration()).willReturn(0L);
+        given(commentBulkRepository.insertIfAbsent(records, 0L)).willReturn(new boolean[]{true});
+
+        // when
+        commentIngestDrainer.drain();
+
+        // then: 시작할 때 한 번만 정리하고, 같은 generation의 ledger는 남겨 둡니다.
+        verify(commentBulkRepository, times(1)).deleteLedgerBefore(0L);
+        verify(commentBulkRepository, never()).deleteLedgerBefore(1L);
+    }
+
+    @Test
+    void 재적재된_batch는_카운터를_올리지_않고_checkpoint만_옮긴다() throws Exception {
+        // given: 커밋 뒤 checkpoint 기록 전에 장애가 나서 같은 batch를 다시 읽은 경우
+        List<CommentIngestRecord> records = List.of(record(1L, 10L), record(2L, 10L));
+        given(commentIngestLog.readBatch(100)).willReturn(new CommentIngestBatch(records, 200L, 0L), new CommentIngestBatch(List.of(), 200L, 0L));
+        given(commentBulkRepository.insertIfAbsent(records, 0L)).willReturn(new boolean[]{false, false});
+
+        // when
+        int inserted = commentIngestDrainer.drain();
+
+        // then
+        assertEquals(0, inserted);
+        verify(todoRepository, never()).addCommentCount(anyLong(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(ChangeEvent.class));
+        verify(commentIngestLog).commit(200L);
+    }
+
+    @Test
+    void 적재가_실패하면_checkpoint를_옮기지_않는다() throws Exception {
+        // given
+        List<CommentIngestRecord> records = List.of(record(1L, 10L));
+        given(commentIngestLog.readBatch(100)).willReturn(new CommentIngestBatch(records, 100L, 0L));
+        given(commentBulkRepository.insertIfAbsent(records, 0L)).willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThrows(QueryTimeoutException.class, () -> commentIngestDrainer.drain());
+        verify(commentIngestLog, never()).commit(anyLong());
+    }
+
+    private CommentIngestRecord record(long id, long todoId) {
+        return new CommentIngestRecord(id, todoId, 1L, "contents-" + id, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.domain.comment.ingest;
+
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentIngestLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 적재하지_않은_레코드는_재시작_후_다시_읽힌다() throws Exception {
+        // given
+        CommentIngestLog ingestLog = open();
+        ingestLog.append(record(1L, "첫번째")).join();
+        ingestLog.append(record(2L, "두번째")).join();
+        ingestLog.append(record(3L, "세번째")).join();
+
+        CommentIngestBatch first = ingestLog.readBatch(1);
+        ingestLog.commit(first.getEndOffset());
+        ingestLog.close();
+
+        // when
+        CommentIngestLog reopened = open();
+        CommentIngestBatch replay = reopened.readBatch(10);
+
+        // then
+        assertEquals(2, replay.getRecords().size());
+        assertEquals(2L, replay.getRecords().get(0).getId());
+        assertEquals("세번째", replay.getRecords().get(1).getContents());
+        reopened.close();
+    }
+
+    @Test
+    void 모두_적재하면_로그를_비운다() throws Exception {
+        // given
+        CommentIngestLog ingestLog = open();
+        ingestLog.append(record(1L, "댓글")).join();
+
+        // when
+        CommentIngestBatch batch = ingestLog.readBatch(10);
+        ingestLog.commit(batch.getEndOffset());
+
+        // then
+        assertEquals(0L, ingestLog.getPendingBytes());
+        assertTrue(ingestLog.readBatch(10).isEmpty());
+        ingestLog.close();
+    }
+
+    @Test
+    void 로그를_비우면_generation이_올라가고_재시작해도_유지된다() throws Exception {
+        // given
+        CommentIngestLog ingestLog = open();
+        ingestLog.append(record(1L, "댓글")).join();
+
+        // when
+        ingestLog.commit(ingestLog.readBatch(10).getEndOffset());
+        ingestLog.close();
+        CommentIngestLog reopened = open();
+
+        // then
+        assertEquals(1L, reopened.getGeneration());
+        assertTrue(reopened.readBatch(10).isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    void 기록_중_잘린_마지막_프레임은_버린다() throws Exception {
+        // given
+        CommentIngestLog ingestLog = open();
+        ingestLog.append(record(1L, "온전한 댓글")).join();
+        ingestLog.close();
+        try (FileChannel channel = FileChannel.open(dir.resolve("comments.wal"), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 50, 1, 2}));
+        }
+
+        // when
+        CommentIngestLog reopened = open();
+        CommentIngestBatch batch = reopened.readBatch(10);
+
+        // then
+        assertEquals(1, batch.getRecords().size());
+        assertEquals("온전한 댓글", batch.getRecords().get(0).getContents());
+        reopened.close();
+    }
+
+    private CommentIngestLog open() throws Exception {
+        CommentIngestLog ingestLog = new CommentIngestLog(dir.toString(), 100);
+        ingestLog.open();
+        return ingestLog;
+    }
+
+    private CommentIngestRecord record(long id, String contents) {
+        return new CommentIngestRecord(id, 10L, 20L, contents, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+}
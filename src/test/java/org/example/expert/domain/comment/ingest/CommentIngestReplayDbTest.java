@@ -0,0 +1,208 @@
+package org.example.expert.domain.comment.ingest;
+
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
+import org.example.expert.domain.comment.repository.CommentBulkRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수집 로그 재적재 SQL을 실제 DB(H2 MySQL 모드)에 실행해 확인
+ * 이미 적재한 레코드는 댓글이 그 사이 삭제됐더라도 다시 저장하지 않아야 합니다.
+ * 로그 파일을 비우는 도중의 장애는 checkpoint/로그 파일을 그 상태로 만들어 재현합니다.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "spring.datasource.url=jdbc:h2:mem:comment-ingest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "todo.purge.delay=PT1H"
+})
+class CommentIngestReplayDbTest {
+
+    private static final String LOG_FILE = "comments.wal";
+    private static final String CHECKPOINT_FILE = "comments.checkpoint";
+
+    @Autowired
+    private CommentBulkRepository commentBulkRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private Snowflake snowflake;
+
+    private long userId;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("ingest-" + System.nanoTime() + "@ingest.com", "password", UserRole.USER));
+        userId = user.getId();
+        todoId = todoRepository.save(new Todo("title", "contents", "sunny", user)).getId();
+    }
+
+    @Test
+    void 같은_레코드를_다시_적재하면_건너뛴다() {
+        // given
+        List<CommentIngestRecord> records = List.of(record(), record());
+        transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(records, 0L));
+
+        // when
+        boolean[] replayed = transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(records, 0L));
+
+        // then
+        assertArrayEquals(new boolean[]{false, false}, replayed);
+        assertTrue(commentRepository.existsById(records.get(0).getId()));
+        assertTrue(commentRepository.existsById(records.get(1).getId()));
+    }
+
+    @Test
+    void 적재_뒤_삭제된_댓글은_재적재해도_되살리지_않는다() {
+        // given
+        CommentIngestRecord deleted = record();
+        CommentIngestRecord fresh = record();
+        transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(List.of(deleted), 0L));
+        transactionTemplate.execute(status -> commentRepository.deleteCommentById(deleted.getId()));
+
+        // when: checkpoint 기록 전 장애로 이미 적재한 레코드와 새 레코드를 함께 다시 읽은 경우
+        boolean[] replayed = transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(List.of(deleted, fresh), 0L));
+
+        // then
+        assertArrayEquals(new boolean[]{false, true}, replayed);
+        assertFalse(commentRepository.existsById(deleted.getId()));
+        assertTrue(commentRepository.existsById(fresh.getId()));
+    }
+
+    @Test
+    void 비워진_generation의_ledger만_지운다() {
+        // given
+        CommentIngestRecord old = record();
+        CommentIngestRecord current = record();
+        transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(List.of(old), 0L));
+        transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(List.of(current), 1L));
+
+        // when
+        commentBulkRepository.deleteLedgerBefore(1L);
+
+        // then: 현재 generation의 레코드는 아직 다시 읽힐 수 있으므로 계속 걸러야 합니다.
+        assertEquals(0, countLedger(old.getId()));
+        assertEquals(1, countLedger(current.getId()));
+        boolean[] replayed = transactionTemplate.execute(status -> commentBulkRepository.insertIfAbsent(List.of(current), 1L));
+        assertArrayEquals(new boolean[]{false}, replayed);
+    }
+
+    @Test
+    void 파일을_비운_뒤_generation을_기록하기_전에_죽어도_다시_적재하지_않는다(@TempDir Path dir) throws Exception {
+        // given: 두 댓글을 적재한 뒤 하나를 관리자가 삭제
+        CommentIngestRecord deleted = record();
+        CommentIngestRecord kept = record();
+        CommentIngestLog ingestLog = openLog(dir);
+        ingestLog.append(deleted).join();
+        ingestLog.append(kept).join();
+        long endOffset = Files.size(dir.resolve(LOG_FILE));
+        assertEquals(2, drainer(ingestLog).drain());
+        ingestLog.close();
+        transactionTemplate.execute(status -> commentRepository.deleteCommentById(deleted.getId()));
+
+        // 장애 상태 재현: 파일은 비워졌지만 checkpoint에는 이전 generation의 끝 위치가 남아 있음
+        Files.write(dir.resolve(LOG_FILE), new byte[0]);
+        writeCheckpoint(dir, 0L, endOffset);
+
+        // when
+        CommentIngestLog reopened = openLog(dir);
+        int replayed = drainer(reopened).drain();
+        reopened.close();
+
+        // then
+        assertEquals(0, replayed);
+        assertEquals(1L, reopened.getGeneration());
+        assertFalse(commentRepository.existsById(deleted.getId()));
+        assertEquals(2, todoRepository.findById(todoId).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void checkpoint를_기록하고_파일을_비우기_전에_죽어도_다시_적재하지_않는다(@TempDir Path dir) throws Exception {
+        // given: 두 댓글을 적재한 뒤 하나를 관리자가 삭제
+        CommentIngestRecord deleted = record();
+        CommentIngestRecord kept = record();
+        CommentIngestLog ingestLog = openLog(dir);
+        ingestLog.append(deleted).join();
+        ingestLog.append(kept).join();
+        byte[] logBytes = Files.readAllBytes(dir.resolve(LOG_FILE));
+        assertEquals(2, drainer(ingestLog).drain());
+        ingestLog.close();
+        transactionTemplate.execute(status -> commentRepository.deleteCommentById(deleted.getId()));
+
+        // 장애 상태 재현: checkpoint는 끝까지 기록됐지만 파일은 아직 비워지지 않음
+        Files.write(dir.resolve(LOG_FILE), logBytes);
+        writeCheckpoint(dir, 0L, logBytes.length);
+
+        // when
+        CommentIngestLog reopened = openLog(dir);
+        int replayed = drainer(reopened).drain();
+        reopened.close();
+
+        // then
+        assertEquals(0, replayed);
+        assertEquals(0L, reopened.getPendingBytes());
+        assertFalse(commentRepository.existsById(deleted.getId()));
+        assertEquals(2, todoRepository.findById(todoId).orElseThrow().getCommentCount());
+    }
+
+    private CommentIngestLog openLog(Path dir) throws IOException {
+        CommentIngestLog ingestLog = new CommentIngestLog(dir.toString(), 100);
+        ingestLog.open();
+        return ingestLog;
+    }
+
+    private CommentIngestDrainer drainer(CommentIngestLog ingestLog) {
+        return new CommentIngestDrainer(ingestLog, commentBulkRepository, todoRepository, eventPublisher, transactionManager, 100);
+    }
+
+    private int countLedger(long id) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment_ingest_ledger WHERE id = ?", Integer.class, id);
+        return count == null ? 0 : count;
+    }
+
+    private void writeCheckpoint(Path dir, long generation, long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2).putLong(generation).putLong(offset);
+        Files.write(dir.resolve(CHECKPOINT_FILE), buffer.array());
+    }
+
+    private CommentIngestRecord record() {
+        return new CommentIngestRecord(snowflake.nextId(), todoId, userId, "contents", LocalDateTime.now());
+    }
+}
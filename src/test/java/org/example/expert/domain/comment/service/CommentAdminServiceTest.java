@@ -1,14 +1,34 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.CommentTodoRef;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.exception.CommentBulkDeletePartialException;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -18,6 +38,10 @@ class CommentAdminServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -26,10 +50,137 @@ class CommentAdminServiceTest {
     void 댓글_삭제_테스트() {
         // given
         long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+        given(commentRepository.deleteCommentById(commentId)).willReturn(1);
         // when
         commentAdminService.deleteComment(commentId);
         //then
-        verify(commentRepository, times(1)).deleteById(commentId);
+        verify(commentRepository, times(1)).deleteCommentById(commentId);
+        verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+
+    }
+
+    @Test
+    void 이미_삭제된_댓글이면_댓글수를_감소시키지_않는다() {
+        // given
+        long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+        given(commentRepository.deleteCommentById(commentId)).willReturn(0);
+        // when
+        commentAdminService.deleteComment(commentId);
+        //then
+        verify(todoRepository, never()).addCommentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void id_목록으로_일괄_삭제하면_todo별로_댓글수를_한번씩_감소시킨다() {
+        // given
+        List<Long> commentIds = List.of(3L, 1L, 2L, 1L);
+        given(commentRepository.findTodoRefsByIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(
+                new CommentTodoRef(1L, 10L), new CommentTodoRef(2L, 10L), new CommentTodoRef(3L, 20L)));
+        given(commentRepository.lockExistingIds(List.of(1L, 2L, 3L))).willReturn(List.of(1L, 2L, 3L));
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L, 3L))).willReturn(3);
+        willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.bulkDeleteComments(
+                new CommentBulkDeleteRequest(commentIds, null, null, null, null));
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+        assertEquals(1, response.getChunks());
+        verify(todoRepository).addCommentCount(10L, -2);
+        verify(todoRepository).addCommentCount(20L, -1);
+    }
+
+    @Test
+    void 작성자_기준_일괄_삭제는_id_keyset으로_chunk를_나눈다() {
+        // given
+        long userId = 5L;
+        PageRequest chunk = PageRequest.of(0, CommentAdminService.BULK_DELETE_CHUNK_SIZE);
+        given(commentRepository.findTodoRefsByUserId(userId, 0L, chunk)).willReturn(List.of(
+                new CommentTodoRef(4L, 10L), new CommentTodoRef(7L, 10L)));
+        given(commentRepository.findTodoRefsByUserId(userId, 7L, chunk)).willReturn(List.of());
+        given(commentRepository.lockExistingIds(List.of(4L, 7L))).willReturn(List.of(4L, 7L));
+        given(commentRepository.deleteAllByIdIn(List.of(4L, 7L))).willReturn(2);
+        willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.bulkDeleteComments(
+                new CommentBulkDeleteRequest(null, userId, null, null, null));
+
+        // then
+        assertEquals(2, response.getDeletedCount());
+        assertEquals(1, response.getChunks());
+        verify(todoRepository, times(1)).addCommentCount(10L, -2);
+    }
+
+    @Test
+    void 일괄_삭제_도중_다른_요청이_지운_댓글은_댓글수에서_빼지_않는다() {
+        // given
+        given(commentRepository.findTodoRefsByIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(
+                new CommentTodoRef(1L, 10L), new CommentTodoRef(2L, 10L), new CommentTodoRef(3L, 20L)));
+        given(commentRepository.lockExistingIds(List.of(1L, 2L, 3L))).willReturn(List.of(1L, 3L));
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 3L))).willReturn(2);
+        willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.bulkDeleteComments(
+                new CommentBulkDeleteRequest(List.of(1L, 2L, 3L), null, null, null, null));
+
+        // then
+        assertEquals(2, response.getDeletedCount());
+        verify(todoRepository).addCommentCount(10L, -1);
+        verify(todoRepository).addCommentCount(20L, -1);
+    }
+
+    @Test
+    void 일괄_삭제가_중간_chunk에서_실패하면_커밋된_삭제_건수를_담아_예외를_던진다() {
+        // given
+        long userId = 5L;
+        PageRequest chunk = PageRequest.of(0, CommentAdminService.BULK_DELETE_CHUNK_SIZE);
+        given(commentRepository.findTodoRefsByUserId(userId, 0L, chunk)).willReturn(List.of(
+                new CommentTodoRef(4L, 10L), new CommentTodoRef(7L, 10L)));
+        given(commentRepository.findTodoRefsByUserId(userId, 7L, chunk)).willThrow(new QueryTimeoutException("timeout"));
+        given(commentRepository.lockExistingIds(List.of(4L, 7L))).willReturn(List.of(4L, 7L));
+        given(commentRepository.deleteAllByIdIn(List.of(4L, 7L))).willReturn(2);
+        willAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        // when
+        CommentBulkDeletePartialException exception = assertThrows(CommentBulkDeletePartialException.class,
+                () -> commentAdminService.bulkDeleteComments(new CommentBulkDeleteRequest(null, userId, null, null, null)));
+
+        // then
+        assertEquals(2, exception.getDeletedCount());
+        assertEquals(1, exception.getChunks());
+        assertInstanceOf(QueryTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void 일괄_삭제_조건을_여러개_지정하면_예외가_발생한다() {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(List.of(1L), 5L, null, null, null);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.bulkDeleteComments(request));
+        assertEquals("commentIds, userId, todoId 중 하나만 지정해야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void todo_기준_일괄_삭제에_기간이_없으면_예외가_발생한다() {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, null, 10L, LocalDateTime.now(), null);
 
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.bulkDeleteComments(request));
+        assertEquals("todoId로 삭제할 때는 from < to 구간이 필요합니다.", exception.getMessage());
     }
-}
\ No newline at end of file
+}
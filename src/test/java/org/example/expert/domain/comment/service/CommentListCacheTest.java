@@ -0,0 +1,122 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentListCacheTest {
+
+    private static byte[] json(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 같은_버전이면_저장된_바이트를_그대로_쓴다() throws Exception {
+        // given
+        CommentListCache cache = new CommentListCache(1024, 512, 64);
+        cache.put(1L, "v1", json("[{\"id\":1}]"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        boolean hit = cache.writeTo(1L, "v1", out);
+
+        // then
+        assertTrue(hit);
+        assertEquals("[{\"id\":1}]", out.toString(StandardCharsets.UTF_8));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void 버전이_다르면_miss로_처리한다() throws Exception {
+        // given
+        CommentListCache cache = new CommentListCache(1024, 512, 64);
+        cache.put(1L, "v1", json("[]"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        boolean hit = cache.writeTo(1L, "v2", out);
+
+        // then
+        assertFalse(hit);
+        assertEquals(0, out.size());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void 총_바이트_상한을_넘으면_가장_오래_안_쓴_항목부터_버린다() throws Exception {
+        // given
+        CommentListCache cache = new CommentListCache(10, 10, 2);
+        cache.put(1L, "v", json("aaaa"));
+        cache.put(2L, "v", json("bbbb"));
+        cache.writeTo(1L, "v", new ByteArrayOutputStream());
+
+        // when
+        cache.put(3L, "v", json("cccc"));
+
+        // then
+        assertEquals(8, cache.getTotalBytes());
+        assertTrue(cache.writeTo(1L, "v", new ByteArrayOutputStream()));
+        assertFalse(cache.writeTo(2L, "v", new ByteArrayOutputStream()));
+        assertTrue(cache.writeTo(3L, "v", new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void 읽는_중에_버려진_항목의_page는_다른_항목에_재사용하지_않는다() throws Exception {
+        // given
+        CommentListCache cache = new CommentListCache(12, 12, 4);
+        cache.put(1L, "v", json("aaaaaaaa"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            private boolean first = true;
+
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                // 첫 page를 쓴 직후 다른 항목이 자리를 요구합니다.
+                if (first) {
+                    first = false;
+                    cache.put(2L, "v", json("bbbbbbbb"));
+                }
+                super.write(b, off, len);
+            }
+        };
+
+        // when
+        boolean hit = cache.writeTo(1L, "v", out);
+
+        // then
+        assertTrue(hit);
+        assertEquals("aaaaaaaa", out.toString(StandardCharsets.UTF_8));
+        assertFalse(cache.writeTo(2L, "v", new ByteArrayOutputStream()));
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    @Test
+    void 항목_상한보다_큰_목록은_저장하지_않는다() {
+        // given
+        CommentListCache cache = new CommentListCache(1024, 4, 64);
+
+        // when
+        cache.put(1L, "v", json("12345"));
+
+        // then
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    @Test
+    void 댓글이_추가되면_해당_todo_항목을_지운다() throws Exception {
+        // given
+        CommentListCache cache = new CommentListCache(1024, 512, 64);
+        cache.put(1L, "v", json("[]"));
+
+        // when
+        cache.onChange(new ChangeEvent(ChangeType.COMMENT_ADDED, 1L, 5L));
+
+        // then
+        assertEquals(0, cache.getTotalBytes());
+        assertFalse(cache.writeTo(1L, "v", new ByteArrayOutputStream()));
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentListWriterTest {
+
+    @Mock
+    private CommentService commentService;
+    @Mock
+    private CommentListCache commentListCache;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @InjectMocks
+    private CommentListWriter commentListWriter;
+
+    @Test
+    void 같은_버전의_캐시가_있으면_조회없이_캐시된_JSON을_쓴다() throws Exception {
+        // given
+        TodoVersion version = new TodoVersion(1L, 0L, LocalDateTime.now(), LocalDateTime.now(), 2, 1, null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        given(commentListCache.writeTo(eq(1L), eq(version.commentsEtag()), any())).willReturn(true);
+
+        // when
+        commentListWriter.write(version, out);
+
+        // then
+        verify(commentService, never()).getComments(anyLong());
+        verify(commentListCache, never()).put(anyLong(), any(), any());
+    }
+
+    @Test
+    void 캐시가_없으면_빈을_통해_조회한_목록을_직렬화해_캐시에_넣는다() throws Exception {
+        // given
+        TodoVersion version = new TodoVersion(1L, 0L, LocalDateTime.now(), LocalDateTime.now(), 0, 1, null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        given(commentListCache.writeTo(eq(1L), eq(version.commentsEtag()), any())).willReturn(false);
+        given(commentService.getComments(1L)).willReturn(List.of());
+
+        // when
+        commentListWriter.write(version, out);
+
+        // then
+        byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(json, out.toByteArray());
+        verify(commentListCache).put(1L, version.commentsEtag(), json);
+    }
+}
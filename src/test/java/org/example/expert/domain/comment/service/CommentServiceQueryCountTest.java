@@ -0,0 +1,83 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.sql.SqlStats;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.example.expert.domain.common.sql.SqlAssertions.assertNoRepeatedStatements;
+import static org.example.expert.domain.common.sql.SqlAssertions.assertStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 댓글 등록/조회가 실행하는 SQL 문장 수 확인
+ * todo 존재 확인은 todo 작성자 캐시로, 댓글 작성자 정보는 유저 디렉터리로 채우므로 댓글 수와 관계없이 문장 수가 고정됩니다.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "sql.stats.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:comment-query-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "todo.purge.delay=PT1H"
+})
+class CommentServiceQueryCountTest {
+
+    private static final int COMMENTERS = 10;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoOwnerCache todoOwnerCache;
+
+    private AuthUser owner;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User ownerUser = userRepository.save(new User("owner-" + System.nanoTime() + "@query.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", ownerUser));
+
+        owner = new AuthUser(ownerUser.getId(), ownerUser.getEmail(), UserRole.USER);
+        todoId = todo.getId();
+        // todo 존재 확인은 캐시에 올라가 있는 상태(hot path)에서 측정합니다.
+        todoOwnerCache.findOwnerId(todoId);
+    }
+
+    @Test
+    void 댓글_등록은_INSERT와_댓글_수_UPDATE로_끝난다() {
+        // when & then: comments INSERT 1 + comment_count UPDATE 1
+        assertStatements(2, () -> commentService.saveComment(owner, todoId, new CommentSaveRequest("contents")));
+    }
+
+    @Test
+    void 댓글_목록은_작성자_수와_관계없이_같은_문장을_반복하지_않는다() {
+        // given: 작성자가 모두 다른 댓글
+        for (int i = 0; i < COMMENTERS; i++) {
+            User commenter = userRepository.save(new User("commenter-" + System.nanoTime() + "@query.com", "password", UserRole.USER));
+            commentService.saveComment(new AuthUser(commenter.getId(), commenter.getEmail(), UserRole.USER),
+                    todoId, new CommentSaveRequest("contents-" + i));
+        }
+
+        // when: 새 작성자는 디렉터리에 없으므로 IN 조회 한 번으로 채웁니다.
+        SqlStats cold = assertNoRepeatedStatements(2, () -> commentService.getComments(todoId));
+
+        // then
+        assertEquals(2, cold.getStatements());
+        assertStatements(1, () -> commentService.getComments(todoId));
+        assertStatements(1, () -> commentService.getCommentsAfter(todoId, null, COMMENTERS));
+    }
+}
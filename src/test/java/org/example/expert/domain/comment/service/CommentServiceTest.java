@@ -1,33 +1,49 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.CommentIngestRecord;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.ingest.CommentIngestLog;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.feed.event.ChangeEvent;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserDirectory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +53,18 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
+    @Mock
+    private UserDirectory userDirectory;
+    @Mock
+    private ObjectProvider<CommentIngestLog> commentIngestLogProvider;
+    @Mock
+    private CommentIngestLog commentIngestLog;
+    @Spy
+    private Snowflake snowflake = new Snowflake(1);
     @InjectMocks
     private CommentService commentService;
 
@@ -47,7 +75,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoOwnerCache.findOwnerId(anyLong())).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -68,14 +96,91 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(1L));
         given(commentRepository.save(any())).willReturn(comment);
+        given(todoRepository.addCommentCount(todoId, 1)).willReturn(1);
 
         // when
         CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
 
         // then
         assertNotNull(result);
+        verify(todoRepository, never()).findById(anyLong());
+        verify(todoRepository).addCommentCount(todoId, 1);
+        verify(eventPublisher).publishEvent(any(ChangeEvent.class));
+    }
+
+    @Test
+    public void 캐시에_남은_삭제된_todo에는_댓글을_등록하지_않는다() {
+        // given
+        long todoId = 1;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        Comment comment = new Comment(request.getContents(), user, new Todo("title", "title", "contents", user));
+
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(1L));
+        given(commentRepository.save(any())).willReturn(comment);
+        given(todoRepository.addCommentCount(todoId, 1)).willReturn(0);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.saveComment(authUser, todoId, request));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(ChangeEvent.class));
+    }
+
+    @Test
+    void 수집_모드가_꺼져있으면_댓글을_수집하지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        given(commentIngestLogProvider.getIfAvailable()).willReturn(null);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.ingestComment(authUser, 1L, new CommentSaveRequest("contents")));
+
+        // then
+        assertEquals("댓글 수집 모드가 비활성화되어 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 수집한_댓글은_fsync가_끝난_뒤_미리_발급한_id로_응답한다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        given(commentIngestLogProvider.getIfAvailable()).willReturn(commentIngestLog);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(1L));
+        given(commentIngestLog.append(any())).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        CommentSaveResponse response = commentService.ingestComment(authUser, todoId, new CommentSaveRequest("contents"));
+
+        // then
+        ArgumentCaptor<CommentIngestRecord> captor = ArgumentCaptor.forClass(CommentIngestRecord.class);
+        verify(commentIngestLog).append(captor.capture());
+        assertEquals(Long.valueOf(captor.getValue().getId()), response.getId());
+        assertEquals(todoId, captor.getValue().getTodoId());
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    void 수집_로그_기록에_실패하면_예외처리한다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        given(commentIngestLogProvider.getIfAvailable()).willReturn(commentIngestLog);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(1L));
+        given(commentIngestLog.append(any())).willReturn(CompletableFuture.failedFuture(new IOException("disk full")));
+
+        // when
+        ServerException exception = assertThrows(ServerException.class,
+                () -> commentService.ingestComment(authUser, todoId, new CommentSaveRequest("contents")));
+
+        // then
+        assertEquals("댓글 수집 로그 기록에 실패했습니다.", exception.getMessage());
     }
 
     @Test
@@ -86,7 +191,7 @@ class CommentServiceTest {
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -115,7 +220,7 @@ class CommentServiceTest {
         commentList.add(comment1);
         commentList.add(comment2);
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findByTodoId(todoId, PageRequest.of(0, CommentService.MAX_LIST_SIZE))).willReturn(commentList);
 
         // when
         List<CommentResponse> response = commentService.getComments(todoId);
@@ -134,7 +239,7 @@ class CommentServiceTest {
         long todoId = 1L;
         List<Comment> emptyList = new ArrayList<>();
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(emptyList);
+        given(commentRepository.findByTodoId(todoId, PageRequest.of(0, CommentService.MAX_LIST_SIZE))).willReturn(emptyList);
 
         // when
         List<CommentResponse> response = commentService.getComments(todoId);
@@ -144,5 +249,33 @@ class CommentServiceTest {
         assertTrue(response.isEmpty());
     }
 
+    @Test
+    void 커서_조회시_한건_더_읽어서_다음_페이지를_판단한다(){
+        // given
+        long todoId = 1L;
+        User user = User.fromAuthUser(new AuthUser(1L, "email", UserRole.USER));
+        List<Comment> commentList = new ArrayList<>();
+        for (long id = 11; id <= 13; id++) {
+            Comment comment = new Comment("comment" + id, user, new Todo());
+            ReflectionTestUtils.setField(comment, "id", id);
+            commentList.add(comment);
+        }
+        given(commentRepository.findByTodoIdAfter(todoId, 10L, PageRequest.of(0, 3))).willReturn(commentList);
+
+        // when
+        CommentCursorResponse response = commentService.getCommentsAfter(todoId, 10L, 2);
+
+        // then
+        assertEquals(2, response.getComments().size());
+        assertTrue(response.isHasNext());
+        assertEquals(12L, response.getNextCursor());
+    }
 
+    @Test
+    void 커서_조회시_size가_범위를_벗어나면_예외처리(){
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentService.getCommentsAfter(1L, null, CommentService.MAX_PAGE_SIZE + 1));
+        assertEquals("size는 1 이상 100 이하여야 합니다.", exception.getMessage());
+    }
 }
@@ -0,0 +1,55 @@
+package org.example.expert.domain.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void 무작위_추가_결과가_HashMap과_같다() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(50_000);
+            int value = random.nextInt();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        // then
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 50_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), map.get(key, -1));
+        }
+    }
+
+    @Test
+    void 예상_크기만큼_넣어도_resize_하지_않는다() {
+        // given: 백만 건 → 2^21칸 (load factor ≈ 0.48), 같은 계산으로 천만 건은 2^24칸 × 12B = 192MiB 입니다.
+        LongIntHashMap map = new LongIntHashMap(1_000_000);
+        long tableBytes = map.tableBytes();
+
+        // when
+        for (int i = 1; i <= 1_000_000; i++) {
+            map.put(i, i);
+        }
+
+        // then
+        assertEquals((1L << 21) * 12, tableBytes);
+        assertEquals(tableBytes, map.tableBytes());
+    }
+
+    @Test
+    void key_0은_저장할_수_없다() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(0L, 1));
+    }
+}
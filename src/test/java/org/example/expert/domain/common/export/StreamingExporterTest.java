@@ -0,0 +1,62 @@
+package org.example.expert.domain.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingExporterTest {
+
+    private final StreamingExporter streamingExporter = new StreamingExporter(new ObjectMapper(), 1);
+
+    @Test
+    void CSV는_헤더와_이스케이프된_값을_출력한다() {
+        // given
+        Stream<TodoExportRow> rows = Stream.of(
+                new TodoExportRow(1L, "제목, 쉼표", "\"따옴표\"", null, 10L, 2, 1, null, null)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = streamingExporter.write(rows, ExportFormat.CSV, TodoExportRow.CSV_HEADER, TodoExportRow::toCsvColumns, out);
+
+        // then
+        assertEquals(1, count);
+        assertEquals(
+                "id,title,contents,weather,userId,commentCount,managerCount,createdAt,modifiedAt\r\n" +
+                        "1,\"제목, 쉼표\",\"\"\"따옴표\"\"\",,10,2,1,,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void NDJSON은_한_줄에_row_하나씩_출력한다() {
+        // given
+        Stream<TodoExportRow> rows = Stream.of(
+                new TodoExportRow(1L, "a", "b", "sunny", 10L, 0, 1, null, null),
+                new TodoExportRow(2L, "c", "d", "rainy", 10L, 0, 1, null, null)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = streamingExporter.write(rows, ExportFormat.NDJSON, TodoExportRow.CSV_HEADER, TodoExportRow::toCsvColumns, out);
+
+        // then
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_예외가_발생한다() {
+        assertThrows(InvalidRequestException.class, () -> ExportFormat.of("xml"));
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.domain.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeTest {
+
+    @Test
+    void 여러_스레드에서_발급해도_id가_중복되지_않는다() throws Exception {
+        // given
+        int threadCount = 16;
+        int idsPerThread = 50_000;
+        Snowflake snowflake = new Snowflake(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet(threadCount * idsPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                long prev = -1;
+                boolean increasing = true;
+                for (int i = 0; i < idsPerThread; i++) {
+                    long id = snowflake.nextId();
+                    increasing &= id > prev;
+                    prev = id;
+                    ids.add(id);
+                }
+                return increasing;
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(), "스레드 안에서 id는 단조 증가해야 합니다.");
+        }
+        executor.shutdown();
+        assertEquals(threadCount * idsPerThread, ids.size());
+    }
+
+    @Test
+    void 시계가_뒤로_가도_id는_증가한다() {
+        // given
+        AtomicLong clock = new AtomicLong(Snowflake.EPOCH + 10_000);
+        Snowflake snowflake = new Snowflake(1, clock::get);
+
+        // when
+        long first = snowflake.nextId();
+        clock.addAndGet(-5_000);
+        long second = snowflake.nextId();
+
+        // then
+        assertTrue(second > first);
+    }
+
+    @Test
+    void 같은_ms에_sequence가_넘치면_다음_timestamp로_넘어간다() {
+        // given
+        long now = Snowflake.EPOCH + 10_000;
+        Snowflake snowflake = new Snowflake(3, () -> now);
+
+        // when
+        long last = 0;
+        for (int i = 0; i <= Snowflake.SEQUENCE_MASK + 1; i++) {
+            long id = snowflake.nextId();
+            assertTrue(id > last);
+            last = id;
+        }
+
+        // then
+        assertEquals(now + 1, Snowflake.timestampOf(last));
+        assertEquals(3, Snowflake.nodeIdOf(last));
+    }
+
+    @Test
+    void node_id_범위를_벗어나면_예외가_발생한다() {
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1));
+    }
+
+    @Test
+    void 범위를_벗어난_node_id는_거절한다() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> Snowflake.initialize(-1));
+    }
+}
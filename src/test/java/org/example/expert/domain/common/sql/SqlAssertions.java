@@ -0,0 +1,51 @@
+package org.example.expert.domain.common.sql;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 테스트에서 코드 블록이 실행한 SQL 문장 수를 고정하는 도우미
+ * 같은 스레드에서 실행된 문장만 셉니다. 실패 메시지에 실행된 문장 모양과 횟수를 함께 보여 줍니다.
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static SqlStats capture(Runnable action) {
+        SqlStats stats = SqlStatementCounter.start();
+        try {
+            action.run();
+        } finally {
+            // 예외로 끝나도 다음 테스트에 범위가 남지 않게 닫습니다.
+            SqlStatementCounter.stop();
+        }
+        return stats;
+    }
+
+    public static SqlStats assertStatements(int expected, Runnable action) {
+        SqlStats stats = capture(action);
+        assertEquals(expected, stats.getStatements(), () -> "실행된 SQL 문장 수가 다릅니다.\n" + describe(stats));
+        return stats;
+    }
+
+    // 같은 모양의 문장이 threshold 번 이상 실행되면(N+1) 실패합니다.
+    public static SqlStats assertNoRepeatedStatements(int threshold, Runnable action) {
+        SqlStats stats = capture(action);
+        assertTrue(stats.findRepeatedShapes(threshold).isEmpty(), () -> "같은 SQL이 반복 실행됐습니다.\n" + describe(stats));
+        return stats;
+    }
+
+    private static String describe(SqlStats stats) {
+        return stats.getShapes().entrySet().stream()
+                .map(SqlAssertions::describeShape)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeShape(Map.Entry<String, Integer> shape) {
+        return "  " + shape.getValue() + "x " + shape.getKey();
+    }
+}
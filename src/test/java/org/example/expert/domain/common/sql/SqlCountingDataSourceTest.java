@@ -0,0 +1,75 @@
+package org.example.expert.domain.common.sql;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SqlCountingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    @Test
+    void 조회와_수정_문장의_실행_횟수와_row_수를_센다() throws Exception {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(anyString())).willReturn(statement);
+        given(statement.executeQuery()).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true, true, false);
+        given(statement.executeUpdate()).willReturn(3);
+        SqlCountingDataSource dataSource = new SqlCountingDataSource(target);
+
+        // when
+        SqlStats stats = SqlAssertions.capture(() -> {
+            try (Connection counted = dataSource.getConnection()) {
+                ResultSet rows = counted.prepareStatement("select * from todos where id = ?").executeQuery();
+                while (rows.next()) {
+                    rows.getLong(1);
+                }
+                counted.prepareStatement("update todos set title = ? where user_id = ?").executeUpdate();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertEquals(2, stats.getStatements());
+        assertEquals(5, stats.getRows());
+    }
+
+    @Test
+    void IN_목록_길이만_다른_문장은_같은_모양으로_묶어_반복을_찾는다() {
+        // when
+        SqlStats stats = SqlAssertions.capture(() -> {
+            SqlStatementCounter.recordStatement("select * from users where id in (?, ?)", 10);
+            SqlStatementCounter.recordStatement("select * from users\n where id in (?,?,?)", 10);
+            SqlStatementCounter.recordStatement("select * from users where id in (?)", 10);
+            SqlStatementCounter.recordStatement("select * from todos where id = ?", 10);
+        });
+
+        // then
+        assertEquals(4, stats.getStatements());
+        assertEquals(List.of("select * from users where id in (?)"), stats.findRepeatedShapes(3));
+    }
+
+    @Test
+    void 범위가_열려_있지_않으면_기록하지_않는다() {
+        // when
+        SqlStatementCounter.recordStatement("select 1", 10);
+        SqlStats stats = SqlAssertions.capture(() -> {});
+
+        // then
+        assertEquals(0, stats.getStatements());
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.domain.feed.service;
+
+import org.example.expert.domain.feed.dto.ChangeEventResponse;
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedServiceTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        // 전송 작업은 실행하지 않고 예약된 것만 확인합니다.
+        changeFeedService = new ChangeFeedService(tasks::add, 2, 3, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 버퍼가_가득_차면_가장_오래된_이벤트를_버리고_reset을_표시한다() {
+        // given
+        ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), null, 2);
+
+        // when
+        subscriber.offer(event(1, 10L));
+        subscriber.offer(event(2, 10L));
+        subscriber.offer(event(3, 10L));
+
+        // then
+        assertTrue(subscriber.takeReset());
+        assertEquals(2, subscriber.poll().getId());
+        assertEquals(3, subscriber.poll().getId());
+        assertNull(subscriber.poll());
+    }
+
+    @Test
+    void 다른_todo를_구독중이면_전송을_예약하지_않는다() {
+        // given
+        changeFeedService.subscribe(1L, null);
+
+        // when
+        changeFeedService.onChange(new ChangeEvent(ChangeType.COMMENT_ADDED, 2L, 20L));
+
+        // then
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void 구독자마다_전송_작업은_하나만_예약된다() {
+        // given
+        changeFeedService.subscribe(null, null);
+
+        // when
+        changeFeedService.onChange(new ChangeEvent(ChangeType.TODO_CREATED, 1L, 1L));
+        changeFeedService.onChange(new ChangeEvent(ChangeType.TODO_UPDATED, 1L, 1L));
+
+        // then
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void Last_Event_ID가_이력보다_오래되면_재전송과_함께_전송이_예약된다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            changeFeedService.onChange(new ChangeEvent(ChangeType.TODO_UPDATED, 1L, 1L));
+        }
+
+        // when
+        changeFeedService.subscribe(null, 1L);
+
+        // then
+        assertEquals(1, tasks.size());
+        assertEquals(1, changeFeedService.getSubscriberCount());
+    }
+
+    @Test
+    void 서버가_발급한_것보다_큰_Last_Event_ID면_reset_전송이_예약된다() {
+        // given: 재시작 직후라 아직 발급한 이벤트가 없음
+
+        // when
+        changeFeedService.subscribe(null, 100L);
+
+        // then
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void 구독자마다_heartbeat_전송이_예약된다() {
+        // given
+        changeFeedService.subscribe(null, null);
+        changeFeedService.subscribe(1L, null);
+
+        // when
+        changeFeedService.sendHeartbeats();
+
+        // then
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    void 보낼_이벤트가_있으면_heartbeat는_생략한다() {
+        // given
+        ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), null, 2);
+        subscriber.offer(event(1, 10L));
+
+        // when
+        subscriber.requireHeartbeat();
+
+        // then
+        assertFalse(subscriber.takeHeartbeat());
+        assertTrue(subscriber.hasPending());
+    }
+
+    @Test
+    void 전송_pool이_거절하면_발행_스레드에서_보내지_않고_다음_heartbeat에_다시_예약한다() {
+        // given
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] rejecting = {true};
+        ChangeFeedService service = new ChangeFeedService(task -> {
+            if (rejecting[0]) {
+                throw new RejectedExecutionException("queue full");
+            }
+            accepted.add(task);
+        }, 2, 3, Duration.ofMinutes(1));
+        service.subscribe(null, null);
+
+        // when
+        service.onChange(new ChangeEvent(ChangeType.TODO_CREATED, 1L, 1L));
+        rejecting[0] = false;
+        service.sendHeartbeats();
+
+        // then
+        assertEquals(1, accepted.size());
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    void 대기_이벤트를_버리면_reset만_남는다() {
+        // given
+        ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), null, 2);
+        subscriber.offer(event(1, 10L));
+
+        // when
+        subscriber.dropPending();
+
+        // then
+        assertTrue(subscriber.hasPending());
+        assertTrue(subscriber.takeReset());
+        assertNull(subscriber.poll());
+    }
+
+    private ChangeEventResponse event(long id, Long todoId) {
+        return new ChangeEventResponse(id, ChangeType.COMMENT_ADDED, todoId, id, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 담당자 일괄 등록 SQL을 실제 DB(H2 MySQL 모드)에 실행해 확인
+ * 중복만 건너뛰고, FK 위반은 중복으로 보고하지 않고 예외로 올라와야 합니다.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "spring.datasource.url=jdbc:h2:mem:manager-bulk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "todo.purge.delay=PT1H"
+})
+class ManagerBulkSaveDbTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private ManagerBulkRepository managerBulkRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private AuthUser owner;
+    private long todoId;
+    private long userId2;
+    private long userId3;
+
+    @BeforeEach
+    void setUp() {
+        User ownerUser = userRepository.save(new User("owner-" + System.nanoTime() + "@bulk.com", "password", UserRole.USER));
+        userId2 = userRepository.save(new User("user2-" + System.nanoTime() + "@bulk.com", "password", UserRole.USER)).getId();
+        userId3 = userRepository.save(new User("user3-" + System.nanoTime() + "@bulk.com", "password", UserRole.USER)).getId();
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", ownerUser));
+
+        owner = new AuthUser(ownerUser.getId(), ownerUser.getEmail(), UserRole.USER);
+        todoId = todo.getId();
+    }
+
+    @Test
+    void 이미_등록된_유저만_건너뛰고_나머지는_등록한다() {
+        // given
+        managerService.saveManagers(owner, todoId, new ManagerBulkSaveRequest(List.of(userId2)));
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(owner, todoId,
+                new ManagerBulkSaveRequest(List.of(userId2, userId3)));
+
+        // then: 작성자 1 + userId2 1 + userId3 1
+        assertEquals(1, response.getAssigned().size());
+        assertEquals(Long.valueOf(userId3), response.getAssigned().get(0).getUser().getId());
+        assertEquals(List.of(userId2), response.getSkippedUserIds());
+        assertEquals(3, todoRepository.findVersionById(todoId).orElseThrow().getManagerCount());
+    }
+
+    @Test
+    void 중복은_저장되지_않은_것으로_확정한다() {
+        // when
+        boolean[] first = managerBulkRepository.insertIfAbsent(todoId, List.of(userId2), new long[]{1001L});
+        boolean[] second = managerBulkRepository.insertIfAbsent(todoId, List.of(userId2, userId3), new long[]{1002L, 1003L});
+
+        // then
+        assertArrayEquals(new boolean[]{true}, first);
+        assertArrayEquals(new boolean[]{false, true}, second);
+    }
+
+    @Test
+    void 없는_todo에_등록하면_중복으로_숨기지_않고_예외가_발생한다() {
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> managerBulkRepository.insertIfAbsent(Long.MAX_VALUE, List.of(userId2), new long[]{2001L}));
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.todo.service.TodoPermissionCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.example.expert.domain.common.sql.SqlAssertions.assertStatements;
+
+/**
+ * 담당자 등록/삭제/목록 조회가 실행하는 SQL 문장 수 확인
+ * 작성자 확인은 권한 캐시로, 나머지 검증은 조회 한 번(등록) 또는 DELETE 조건(삭제)으로 합쳤으므로 문장 수가 고정됩니다.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "sql.stats.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:manager-query-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "todo.purge.delay=PT1H"
+})
+class ManagerServiceQueryCountTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoPermissionCache todoPermissionCache;
+    @Autowired
+    private TodoOwnerCache todoOwnerCache;
+    @Autowired
+    private UserDirectory userDirectory;
+
+    private AuthUser owner;
+    private long managerUserId;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User ownerUser = userRepository.save(new User("owner-" + System.nanoTime() + "@query.com", "password", UserRole.USER));
+        User managerUser = userRepository.save(new User("manager-" + System.nanoTime() + "@query.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", ownerUser));
+
+        owner = new AuthUser(ownerUser.getId(), ownerUser.getEmail(), UserRole.USER);
+        managerUserId = managerUser.getId();
+        todoId = todo.getId();
+        // 작성자 권한은 캐시에 올라가 있는 상태(hot path)에서 측정합니다.
+        todoPermissionCache.getPermission(owner.getId(), todoId);
+    }
+
+    @Test
+    void 담당자_등록은_검증_조회_한번과_INSERT_UPDATE로_끝난다() {
+        // when & then: 작성자/담당자 조회 1 + managers INSERT 1 + manager_count UPDATE 1
+        assertStatements(3, () -> managerService.saveManager(owner, todoId, new ManagerSaveRequest(managerUserId)));
+    }
+
+    @Test
+    void 담당자_삭제는_조건부_DELETE와_카운터_UPDATE로_끝난다() {
+        // given
+        ManagerSaveResponse saved = managerService.saveManager(owner, todoId, new ManagerSaveRequest(managerUserId));
+
+        // when & then: 소유자 확인을 포함한 DELETE 1 + manager_count UPDATE 1
+        assertStatements(2, () -> managerService.deleteManager(owner, todoId, saved.getId()));
+    }
+
+    @Test
+    void 담당자_목록은_담당자_수와_관계없이_담당자_조회로_끝난다() {
+        // given
+        managerService.saveManager(owner, todoId, new ManagerSaveRequest(managerUserId));
+        userDirectory.resolveAll(List.of(owner.getId(), managerUserId));
+        todoOwnerCache.findOwnerId(todoId);
+
+        // when & then: 담당자 조회 1, todo 존재는 작성자 캐시로, 유저 정보는 유저 디렉터리에서 채웁니다.
+        assertStatements(1, () -> managerService.getManagers(todoId));
+    }
+}
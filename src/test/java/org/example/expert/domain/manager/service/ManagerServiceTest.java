@@ -2,31 +2,50 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.id.Snowflake;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.manager.dto.ManagerAssignTarget;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerBulkRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoPermission;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoOwnerCache;
+import org.example.expert.domain.todo.service.TodoPermissionCache;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserDirectory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +58,19 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
+    @Mock
+    private ManagerBulkRepository managerBulkRepository;
+    @Mock
+    private TodoPermissionCache todoPermissionCache;
+    @Mock
+    private UserDirectory userDirectory;
+    // 일괄 등록은 Snowflake로 id를 미리 발급합니다.
+    @Spy
+    private Snowflake snowflake = new Snowflake(1);
     @InjectMocks
     private ManagerService managerService;
 
@@ -47,7 +79,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -55,18 +87,16 @@ class ManagerServiceTest {
     }
 
     @Test
-    void todo의_user가_null인_경우_예외가_발생한다() {
+    void 일정_작성자가_아니면_담당자_등록시_예외가_발생한다() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.NONE);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(99L));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -81,14 +111,16 @@ class ManagerServiceTest {
         // given
         long todoId = 1L;
         User user = new User("user1@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
         Todo todo = new Todo("Title", "Contents", "Sunny", user);
         ReflectionTestUtils.setField(todo, "id", todoId);
 
         Manager mockManager = new Manager(todo.getUser(), todo);
         List<Manager> managerList = List.of(mockManager);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(1L));
+        given(managerRepository.findByTodoId(todoId)).willReturn(managerList);
+        given(userDirectory.resolveAll(List.of(1L))).willReturn(Map.of(1L, new UserResponse(1L, "user1@example.com")));
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -106,17 +138,17 @@ class ManagerServiceTest {
         User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
 
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
         long managerUserId = 2L;
         User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
         ReflectionTestUtils.setField(managerUser, "id", managerUserId);
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-        given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.findAssignTarget(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignTarget(user.getId(), managerUserId, managerUser.getEmail())));
+        given(managerRepository.saveAndFlush(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(todoRepository.addManagerCount(todoId, 1)).willReturn(1);
 
         // when
         ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
@@ -125,6 +157,7 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoRepository).addManagerCount(todoId, 1);
     }
 
     @Test
@@ -134,12 +167,11 @@ class ManagerServiceTest {
         User user = User.fromAuthUser(authUser);
         long todoId = 1L;
         long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerSaveRequest.getManagerUserId())).willReturn(Optional.empty());
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.findAssignTarget(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignTarget(user.getId(), null, null)));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.saveManager(authUser, todoId, managerSaveRequest));
@@ -154,12 +186,11 @@ class ManagerServiceTest {
 
         long todoId = 1L;
         long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerSaveRequest.getManagerUserId())).willReturn(Optional.of(user));
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.findAssignTarget(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignTarget(user.getId(), user.getId(), user.getEmail())));
 
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
                 () -> managerService.saveManager(authUser, todoId, managerSaveRequest));
@@ -167,127 +198,185 @@ class ManagerServiceTest {
 
     }
 
-    // delete manager 테스트
-    /*
-    * 1. delete 정상 작동 테스트
-    * 2. user not found 예외처리
-    * 3. todo not found 예외처리
-    * 4. 일정 만든 유저 예외처리
-    * 5. manager not found 예외처리
-    * 6. 일정 등록된 담당자 예외처리
-    * */
     @Test
-    void 담당자_정상_삭제(){
+    void 담당자_등록시_일정이_없으면_예외처리한다(){
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        long userId = 1L;
         long todoId = 1L;
-        long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(2L);
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.NONE);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.empty());
 
-        Manager managerUser = new Manager(user,todo);  // 매니저로 등록할 유저
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(authUser, todoId, managerSaveRequest));
+        assertEquals("Todo not found", exception.getMessage());
+    }
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+    @Test
+    void 이미_등록된_담당자를_다시_등록하면_충돌_예외가_발생한다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.findAssignTarget(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignTarget(authUser.getId(), managerUserId, "b@b.com")));
+        given(managerRepository.saveAndFlush(any(Manager.class))).willThrow(new DataIntegrityViolationException("duplicate"));
 
         // when & then
-        managerService.deleteManager(authUser, todoId, managerUserId);
-
-        verify(managerRepository, times(1)).delete(managerUser);
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)));
+        assertEquals("이미 담당자로 등록된 유저입니다.", exception.getMessage());
+        verify(todoRepository, never()).addManagerCount(anyLong(), anyInt());
     }
 
     @Test
-    void 유저_못찾아서_예외처리(){
+    void 담당자_일괄_등록시_이미_등록된_유저는_건너뛴다(){
+        // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        long userId = 1L;
-        long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        long todoId = 1L;
+        UserResponse user2 = new UserResponse(2L, "b@b.com");
+        UserResponse user3 = new UserResponse(3L, "c@c.com");
 
-        Manager managerUser = new Manager(user,todo);  // 매니저로 등록할 유저
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(userRepository.findProfilesByIdIn(List.of(2L, 3L))).willReturn(List.of(user2, user3));
+        given(managerBulkRepository.insertIfAbsent(eq(todoId), eq(List.of(2L, 3L)), any(long[].class))).willReturn(new boolean[]{true, false});
+        given(todoRepository.addManagerCount(todoId, 1)).willReturn(1);
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId,
+                new ManagerBulkSaveRequest(List.of(2L, 3L, 2L)));
+
+        // then
+        assertEquals(1, response.getAssigned().size());
+        assertEquals("b@b.com", response.getAssigned().get(0).getUser().getEmail());
+        assertEquals(List.of(3L), response.getSkippedUserIds());
+        verify(todoRepository).addManagerCount(todoId, 1);
+    }
+
+    @Test
+    void 담당자_일괄_등록시_없는_유저가_있으면_예외처리한다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        UserResponse user2 = new UserResponse(2L, "b@b.com");
+
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(userRepository.findProfilesByIdIn(List.of(2L, 3L))).willReturn(List.of(user2));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(authUser, userId, managerUserId));
-
-        assertEquals("User not found", exception.getMessage());
+                () -> managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(2L, 3L))));
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다. [3]", exception.getMessage());
+        verify(managerBulkRepository, never()).insertIfAbsent(anyLong(), any(), any());
     }
 
+    // delete manager 테스트
+    /*
+    * 1. delete 정상 작동 테스트 (조건부 DELETE 한 문장)
+    * 2. todo not found 예외처리
+    * 3. 일정 만든 유저 예외처리
+    * 4. manager not found 예외처리
+    * 5. 일정 등록된 담당자 예외처리
+    * 2~3은 권한 캐시가 OWNER가 아닐 때, 4~5는 삭제된 row가 없을 때만 추가 조회로 구분합니다.
+    * */
     @Test
-    void _일정_만든_유저없다면_예외처리(){
+    void 담당자_정상_삭제(){
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        long userId = 1L;
         long todoId = 1L;
-        long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", null);
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, authUser.getId())).willReturn(1);
+        given(todoRepository.addManagerCount(todoId, -1)).willReturn(1);
 
-        Manager managerUser = new Manager(user,todo);  // 매니저로 등록할 유저
+        // when
+        managerService.deleteManager(authUser, todoId, managerId);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        // then
+        verify(todoRepository, times(1)).addManagerCount(todoId, -1);
+        verify(todoOwnerCache, never()).findOwnerId(anyLong());
+        verify(managerRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void 담당자_삭제시_todo가_삭제됐으면_카운터_UPDATE가_0건이라_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, authUser.getId())).willReturn(1);
+        given(todoRepository.addManagerCount(todoId, -1)).willReturn(0);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(authUser, userId, managerUserId));
+                () -> managerService.deleteManager(authUser, todoId, managerId));
+        assertEquals("Todo not found", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(ChangeEvent.class));
+    }
 
-        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다. 1", exception.getMessage());
+    @Test
+    void 일정이_없으면_삭제시_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.NONE);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.empty());
 
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser, todoId, managerId));
+        assertEquals("Todo not found", exception.getMessage());
+        verify(todoRepository, never()).addManagerCount(anyLong(), anyInt());
     }
 
     @Test
     void 유저아이디와_일정의_유저아이디가_다르다면_예외처리(){
+        // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        long userId = 1L;
         long todoId = 1L;
-        long managerUserId = 2L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-
-        AuthUser authUser2 = new AuthUser(2L, "a@a.com", UserRole.USER);
-        User user2 = User.fromAuthUser(authUser2);
-        Manager managerUser = new Manager(user,todo);  // 매니저로 등록할 유저
-
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user2));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.NONE);
+        given(todoOwnerCache.findOwnerId(todoId)).willReturn(Optional.of(2L));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(authUser, userId, managerUserId));
+                () -> managerService.deleteManager(authUser, todoId, managerId));
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+    }
 
-        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다. 2", exception.getMessage());
+    @Test
+    void 담당자가_없으면_삭제시_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, authUser.getId())).willReturn(0);
+        given(managerRepository.existsById(managerId)).willReturn(false);
 
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser, todoId, managerId));
+        assertEquals("Manager not found", exception.getMessage());
     }
 
     @Test
     void 담당자가_일정에_등록되어_있지_않다면_예외처리(){
+        // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        long userId = 1L;
         long todoId = 1L;
-        long todoId2 = 2L;
-        long managerUserId = 2L;
-
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        Todo todo2 = new Todo("Test Title", "Test Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo2, "id", todoId2);
-        Manager managerUser = new Manager(user,todo2);  // 매니저로 등록할 유저
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-        given(managerRepository.findById(anyLong())).willReturn(Optional.of(managerUser));
+        long managerId = 2L;
+        given(todoPermissionCache.getPermission(authUser.getId(), todoId)).willReturn(TodoPermission.OWNER);
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, authUser.getId())).willReturn(0);
+        given(managerRepository.existsById(managerId)).willReturn(true);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
-                () -> managerService.deleteManager(authUser, userId, managerUserId));
+                () -> managerService.deleteManager(authUser, todoId, managerId));
         assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
     }
-
-
 }
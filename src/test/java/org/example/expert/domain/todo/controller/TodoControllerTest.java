@@ -7,9 +7,16 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.controller.ManagerController;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,16 +34,27 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = {TodoController.class},
@@ -56,6 +74,10 @@ class TodoControllerTest {
     private ObjectMapper objectMapper;
     @MockBean
     private TodoService todoService;
+    @MockBean
+    private TodoImportService todoImportService;
+    @MockBean
+    private TodoDetailService todoDetailService;
 
     @BeforeEach
     public void setUp() {
@@ -91,8 +113,8 @@ class TodoControllerTest {
         int page = 1;
         int size = 2;
         List<TodoResponse> responses = List.of(
-                new TodoResponse(1L, "제목1", "내용1", "sunny", userResponse, LocalDateTime.now(), LocalDateTime.now()),
-                new TodoResponse(1L, "제목2", "내용2", "sunny", userResponse2, LocalDateTime.now(), LocalDateTime.now())
+                new TodoResponse(1L, "제목1", "내용1", "sunny", userResponse, 0, 0, LocalDateTime.now(), LocalDateTime.now()),
+                new TodoResponse(1L, "제목2", "내용2", "sunny", userResponse2, 0, 0, LocalDateTime.now(), LocalDateTime.now())
         );
         Page<TodoResponse> todoPage = new PageImpl<>(responses);
         given(todoService.getTodos(page,size)).willReturn(todoPage);
@@ -110,7 +132,7 @@ class TodoControllerTest {
     void Todo_단건조회() throws Exception {
         long todoId = 1L;
         UserResponse userResponse = new UserResponse(1L, "AAA@SDF.com");
-        TodoResponse response = new TodoResponse(1L, "제목1", "내용1", "sunny", userResponse, LocalDateTime.now(), LocalDateTime.now());
+        TodoResponse response = new TodoResponse(1L, "제목1", "내용1", "sunny", userResponse, 0, 0, LocalDateTime.now(), LocalDateTime.now());
 
         given(todoService.getTodo(todoId)).willReturn(response);
 
@@ -119,4 +141,149 @@ class TodoControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void Todo_상세_한번에_조회() throws Exception {
+        long todoId = 1L;
+        UserResponse userResponse = new UserResponse(1L, "AAA@SDF.com");
+        TodoResponse todo = new TodoResponse(1L, "제목1", "내용1", "sunny", userResponse, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+        TodoDetailResponse response = new TodoDetailResponse(todo, List.of(), List.of());
+
+        given(todoDetailService.getTodoDetail(todoId)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/full", todoId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void Todo_단건조회_변경이_없으면_304를_반환한다() throws Exception {
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        TodoVersion version = new TodoVersion(todoId, 3L, modifiedAt, modifiedAt, 2, 1, null, null);
+
+        given(todoService.findTodoVersion(todoId)).willReturn(Optional.of(version));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header("If-None-Match", "\"" + version.todoEtag() + "\""))
+                .andExpect(status().isNotModified());
+
+        verify(todoService, never()).getTodo(todoId);
+    }
+
+    @Test
+    void Todo_단건조회시_ETag를_내려준다() throws Exception {
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+        TodoVersion version = new TodoVersion(todoId, 3L, modifiedAt, modifiedAt, 2, 1, null, null);
+        UserResponse userResponse = new UserResponse(1L, "AAA@SDF.com");
+        TodoResponse response = new TodoResponse(todoId, "제목1", "내용1", "sunny", userResponse, 2, 1, modifiedAt, modifiedAt);
+
+        given(todoService.findTodoVersion(todoId)).willReturn(Optional.of(version));
+        given(todoService.getTodo(todoId)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + version.todoEtag() + "\""));
+    }
+
+    @Test
+    void Todo_수정시_If_Match의_버전을_사용한다() throws Exception {
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("새 제목", null, null);
+
+        given(todoService.updateTodo(any(AuthUser.class), eq(todoId), any(TodoUpdateRequest.class), eq(3L)))
+                .willReturn(new TodoUpdateResponse(todoId, 4L));
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", todoId)
+                        .header("If-Match", "\"todo-1-3-0-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isOk());
+
+        verify(todoService).updateTodo(any(AuthUser.class), eq(todoId), any(TodoUpdateRequest.class), eq(3L));
+    }
+
+    @Test
+    void Todo_수정시_약한_ETag면_412를_반환한다() throws Exception {
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("새 제목", null, null);
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", todoId)
+                        .header("If-Match", "W/\"todo-1-3-0-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(todoService, never()).updateTodo(any(AuthUser.class), anyLong(), any(TodoUpdateRequest.class), any());
+    }
+
+    @Test
+    void Todo_수정시_다른_todo의_ETag면_412를_반환한다() throws Exception {
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("새 제목", null, null);
+
+        // when & then
+        mockMvc.perform(patch("/todos/{todoId}", todoId)
+                        .header("If-Match", "\"todo-2-3-0-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(todoService, never()).updateTodo(any(AuthUser.class), anyLong(), any(TodoUpdateRequest.class), any());
+    }
+
+    @Test
+    void Todo_import는_본문을_서비스에_넘기고_부분_실패_결과를_반환한다() throws Exception {
+        String ndjson = "{\"title\":\"t1\",\"contents\":\"c1\"}\n{\"title\":\"t2\",\"contents\":\"c2\"}\n";
+        List<String> received = new ArrayList<>();
+
+        given(todoImportService.importTodos(any(AuthUser.class), any(InputStream.class))).willAnswer(invocation -> {
+            received.add(new String(invocation.<InputStream>getArgument(1).readAllBytes(), StandardCharsets.UTF_8));
+            return new TodoImportResponse(2, 1, 1, 1, 1, List.of(2L));
+        });
+
+        // when & then
+        mockMvc.perform(post("/todos/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson)
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.failedChunks").value(1))
+                .andExpect(jsonPath("$.failedLines[0]").value(2));
+
+        assertEquals(List.of(ndjson), received);
+    }
+
+    @Test
+    void Todo_삭제는_202를_반환한다() throws Exception {
+        long todoId = 1L;
+
+        // when & then
+        mockMvc.perform(delete("/todos/{todoId}", todoId)
+                        .requestAttr("userId", 1L)
+                        .requestAttr("email", "AAA@SDF.com")
+                        .requestAttr("userRole", "USER"))
+                .andExpect(status().isAccepted());
+
+        verify(todoService).deleteTodo(any(AuthUser.class), eq(todoId));
+    }
+}
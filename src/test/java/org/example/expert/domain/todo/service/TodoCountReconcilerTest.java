@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountReconcilerTest {
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoCountReconciler todoCountReconciler;
+
+    @BeforeEach
+    void setUp() {
+        todoCountReconciler = new TodoCountReconciler(todoRepository, 2);
+    }
+
+    @Test
+    void id_구간별로_나눠서_카운터를_보정한다() {
+        // given
+        PageRequest batch = PageRequest.of(0, 2);
+        given(todoRepository.findIdsAfter(0L, batch)).willReturn(List.of(1L, 5L));
+        given(todoRepository.findIdsAfter(5L, batch)).willReturn(List.of(9L));
+        given(todoRepository.findIdsAfter(9L, batch)).willReturn(List.of());
+        given(todoRepository.reconcileCounts(eq(1L), eq(5L), any(LocalDateTime.class))).willReturn(1);
+        given(todoRepository.reconcileCounts(eq(9L), eq(9L), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        int repaired = todoCountReconciler.reconcile();
+
+        // then
+        assertEquals(1, repaired);
+        verify(todoRepository).reconcileCounts(eq(1L), eq(5L), any(LocalDateTime.class));
+        verify(todoRepository).reconcileCounts(eq(9L), eq(9L), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoDetailServiceTest {
+    @Mock
+    private TodoService todoService;
+    @Mock
+    private ManagerService managerService;
+    @Mock
+    private CommentService commentService;
+
+    private TodoDetailService todoDetailService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 호출 스레드에서 바로 실행
+        todoDetailService = new TodoDetailService(todoService, managerService, commentService, Runnable::run);
+    }
+
+    @Test
+    void todo_담당자_댓글을_한번에_조회한다() {
+        // given
+        long todoId = 1L;
+        UserResponse user = new UserResponse(1L, "a@a.com");
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "sunny", user, 0, 0, LocalDateTime.now(), LocalDateTime.now());
+        List<ManagerResponse> managers = List.of(new ManagerResponse(10L, user));
+        List<CommentResponse> comments = List.of(new CommentResponse(20L, "댓글", user));
+
+        given(todoService.getTodo(todoId)).willReturn(todo);
+        given(managerService.getManagersByTodoId(todoId)).willReturn(managers);
+        given(commentService.getComments(todoId)).willReturn(comments);
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(todoId);
+
+        // then
+        assertEquals(todoId, response.getTodo().getId());
+        assertEquals(1, response.getManagers().size());
+        assertEquals(1, response.getComments().size());
+        verify(managerService, never()).getManagers(todoId);
+    }
+
+    @Test
+    void todo가_없으면_예외가_발생한다() {
+        // given
+        long todoId = 1L;
+        given(todoService.getTodo(todoId)).willThrow(new InvalidRequestException("Todo not found"));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(todoId));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+}
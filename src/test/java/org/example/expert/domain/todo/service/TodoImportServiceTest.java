@@ -0,0 +1,140 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoImportServiceTest {
+    @Mock
+    private TodoBulkRepository todoBulkRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TodoImportService todoImportService;
+
+    @BeforeEach
+    void setUp() {
+        todoImportService = new TodoImportService(todoBulkRepository, weatherClient, new ObjectMapper(), transactionManager, eventPublisher, 2);
+    }
+
+    @Test
+    void NDJSON을_chunk_단위로_저장하고_날씨는_한번만_조회한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        String ndjson = """
+                {"title":"t1","contents":"c1"}
+                {"title":"t2","contents":"c2"}
+                {"title":"t3","contents":"c3"}
+                {"title":"t4","contents":"c4"}
+                {"title":"t5","contents":"c5"}
+                """;
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        given(todoBulkRepository.saveAllWithOwnerManager(anyList())).willAnswer(invocation -> {
+            List<?> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return new long[chunk.size()];
+        });
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, toStream(ndjson));
+
+        // then
+        assertEquals(5, response.getImportedCount());
+        assertEquals(3, response.getCommittedChunks());
+        assertEquals(List.of(2, 2, 1), chunkSizes);
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(transactionManager, times(3)).commit(null);
+        verify(eventPublisher, times(5)).publishEvent(any(ChangeEvent.class));
+    }
+
+    @Test
+    void 잘못된_줄은_건너뛰고_줄번호를_보고한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        String ndjson = """
+                {"title":"t1","contents":"c1"}
+                not-json
+                {"title":"","contents":"c3"}
+                """;
+
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        given(todoBulkRepository.saveAllWithOwnerManager(anyList())).willAnswer(invocation -> new long[((List<?>) invocation.getArgument(0)).size()]);
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, toStream(ndjson));
+
+        // then
+        assertEquals(3, response.getTotalLines());
+        assertEquals(1, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(List.of(2L, 3L), response.getFailedLines());
+    }
+
+    @Test
+    void 저장에_실패한_chunk는_실패로_보고하고_나머지_chunk는_계속_저장한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        String ndjson = """
+                {"title":"t1","contents":"c1"}
+                {"title":"t2","contents":"c2"}
+                {"title":"t3","contents":"c3"}
+                {"title":"t4","contents":"c4"}
+                {"title":"t5","contents":"c5"}
+                """;
+
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        given(todoBulkRepository.saveAllWithOwnerManager(anyList()))
+                .willReturn(new long[]{1L, 2L})
+                .willThrow(new DataIntegrityViolationException("fk"))
+                .willReturn(new long[]{5L});
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, toStream(ndjson));
+
+        // then
+        assertEquals(5, response.getTotalLines());
+        assertEquals(3, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(2, response.getCommittedChunks());
+        assertEquals(1, response.getFailedChunks());
+        assertEquals(List.of(3L, 4L), response.getFailedLines());
+        verify(transactionManager, times(1)).rollback(null);
+        // 롤백된 chunk의 todo는 이벤트를 발행하지 않습니다.
+        verify(eventPublisher, times(3)).publishEvent(any(ChangeEvent.class));
+    }
+
+    private ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
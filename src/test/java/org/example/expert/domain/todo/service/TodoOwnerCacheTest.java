@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoOwnerCacheTest {
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoOwnerCache cache(Duration ttl) {
+        return new TodoOwnerCache(todoRepository, 1000, ttl);
+    }
+
+    @Test
+    void 한번_읽은_작성자는_다시_조회하지_않는다() {
+        // given
+        TodoOwnerCache cache = cache(Duration.ofMinutes(5));
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        cache.findOwnerId(10L);
+        Optional<Long> ownerId = cache.findOwnerId(10L);
+
+        // then
+        assertEquals(Optional.of(1L), ownerId);
+        verify(todoRepository, times(1)).findOwnerIdById(10L);
+    }
+
+    @Test
+    void ttl이_지나면_다시_조회한다() {
+        // given
+        TodoOwnerCache cache = cache(Duration.ZERO);
+        given(todoRepository.findOwnerIdById(10L)).willReturn(Optional.of(1L));
+
+        // when
+        cache.findOwnerId(10L);
+        cache.findOwnerId(10L);
+
+        // then
+        verify(todoRepository, times(2)).findOwnerIdById(10L);
+    }
+
+    @Test
+    void 조회_도중_삭제되면_읽은_작성자를_저장하지_않는다() {
+        // given: 삭제 전 값을 읽은 직후 같은 todo가 삭제(evict)됩니다.
+        TodoOwnerCache cache = cache(Duration.ofMinutes(5));
+        given(todoRepository.findOwnerIdById(10L))
+                .willAnswer(invocation -> {
+                    cache.evict(10L);
+                    return Optional.of(1L);
+                })
+                .willReturn(Optional.empty());
+
+        // when
+        cache.findOwnerId(10L);
+        Optional<Long> afterDelete = cache.findOwnerId(10L);
+
+        // then
+        assertEquals(Optional.empty(), afterDelete);
+        verify(todoRepository, times(2)).findOwnerIdById(10L);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.feed.enums.ChangeType;
+import org.example.expert.domain.feed.event.ChangeEvent;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.enums.TodoPermission;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoPermissionCacheTest {
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
+    @Mock
+    private ManagerRepository managerRepository;
+
+    private TodoPermissionCache cache(Duration ttl) {
+        return new TodoPermissionCache(todoOwnerCache, managerRepository, ttl, 1000);
+    }
+
+    @Test
+    void 한번_계산한_권한은_다시_조회하지_않는다() {
+        // given
+        TodoPermissionCache cache = cache(Duration.ofMinutes(5));
+        given(todoOwnerCache.findOwnerId(10L)).willReturn(Optional.of(1L));
+        given(managerRepository.existsByTodoIdAndUserId(10L, 2L)).willReturn(true);
+
+        // when
+        cache.getPermission(1L, 10L);
+        cache.getPermission(2L, 10L);
+        TodoPermission owner = cache.getPermission(1L, 10L);
+        TodoPermission manager = cache.getPermission(2L, 10L);
+
+        // then
+        assertEquals(TodoPermission.OWNER, owner);
+        assertEquals(TodoPermission.MANAGER, manager);
+        verify(todoOwnerCache, times(2)).findOwnerId(10L);
+        verify(managerRepository, times(1)).existsByTodoIdAndUserId(10L, 2L);
+    }
+
+    @Test
+    void ttl이_지나면_다시_계산한다() {
+        // given
+        TodoPermissionCache cache = cache(Duration.ZERO);
+        given(todoOwnerCache.findOwnerId(10L)).willReturn(Optional.of(1L));
+
+        // when
+        cache.getPermission(1L, 10L);
+        cache.getPermission(1L, 10L);
+
+        // then
+        verify(todoOwnerCache, times(2)).findOwnerId(10L);
+    }
+
+    @Test
+    void 담당자로_등록되면_해당_유저의_NONE_결정을_지운다() {
+        // given
+        TodoPermissionCache cache = cache(Duration.ofMinutes(5));
+        given(todoOwnerCache.findOwnerId(10L)).willReturn(Optional.of(1L));
+        given(managerRepository.existsByTodoIdAndUserId(10L, 2L)).willReturn(false, true);
+        assertEquals(TodoPermission.NONE, cache.getPermission(2L, 10L));
+
+        // when
+        cache.evict(2L, 10L);
+
+        // then
+        assertEquals(TodoPermission.MANAGER, cache.getPermission(2L, 10L));
+    }
+
+    @Test
+    void 담당자_해제_이벤트는_todo의_항목을_모두_지운다() {
+        // given
+        TodoPermissionCache cache = cache(Duration.ofMinutes(5));
+        given(todoOwnerCache.findOwnerId(anyLong())).willReturn(Optional.of(1L));
+        given(managerRepository.existsByTodoIdAndUserId(anyLong(), anyLong())).willReturn(true);
+        for (long userId = 2; userId <= 200; userId++) {
+            cache.getPermission(userId, 10L);
+            cache.getPermission(userId, 11L);
+        }
+        assertEquals(398, cache.size());
+
+        // when
+        cache.onChange(new ChangeEvent(ChangeType.MANAGER_REMOVED, 10L, 99L));
+
+        // then
+        assertEquals(199, cache.size());
+        for (long userId = 2; userId <= 200; userId++) {
+            assertEquals(TodoPermission.MANAGER, cache.getPermission(userId, 11L));
+        }
+        assertEquals(199, cache.size());
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TodoPurgerTest {
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+
+    private TodoPurger todoPurger;
+
+    @BeforeEach
+    void setUp() {
+        todoPurger = new TodoPurger(todoRepository, commentRepository, managerRepository, 10, 2);
+    }
+
+    @Test
+    void 댓글_담당자_todo_순서로_chunk_단위로_삭제한다() {
+        // given
+        Todo todo = new Todo();
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        given(todoRepository.findPendingPurge(10)).willReturn(List.of(todo));
+        given(commentRepository.deleteChunkByTodoId(1L, 2)).willReturn(2, 2, 1);
+        given(managerRepository.deleteChunkByTodoId(1L, 2)).willReturn(1);
+        given(todoRepository.purgeById(1L)).willReturn(1);
+
+        // when
+        int purged = todoPurger.purge();
+
+        // then
+        assertEquals(1, purged);
+        InOrder order = inOrder(commentRepository, managerRepository, todoRepository);
+        order.verify(commentRepository, times(3)).deleteChunkByTodoId(1L, 2);
+        order.verify(managerRepository).deleteChunkByTodoId(1L, 2);
+        order.verify(todoRepository).purgeById(1L);
+
+        assertEquals(5, todoPurger.getStatus().getPurgedComments());
+    }
+}
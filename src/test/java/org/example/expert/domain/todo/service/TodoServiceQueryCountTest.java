@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.sql.SqlStats;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.example.expert.domain.common.sql.SqlAssertions.assertStatements;
+import static org.example.expert.domain.common.sql.SqlAssertions.capture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * todo 조회/수정/삭제가 실행하는 SQL 문장 수 확인
+ * 작성자 정보는 유저 디렉터리에서 채우므로 목록 크기와 관계없이 문장 수가 고정됩니다.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "sql.stats.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:todo-query-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "todo.purge.delay=PT1H"
+})
+class TodoServiceQueryCountTest {
+
+    private static final int AUTHORS = 10;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private AuthUser owner;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 todo를 만들어, 작성자를 todo마다 조회하면 문장 수가 늘어나게 합니다.
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(new User("author-" + System.nanoTime() + "@query.com", "password", UserRole.USER));
+            Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", author));
+            owner = new AuthUser(author.getId(), author.getEmail(), UserRole.USER);
+            todoId = todo.getId();
+        }
+    }
+
+    @Test
+    void todo_목록은_작성자_수와_관계없이_목록_조회와_작성자_조회_한번으로_끝난다() {
+        // when: 새 작성자는 디렉터리에 없으므로 IN 조회 한 번으로 채웁니다.
+        SqlStats cold = capture(() -> todoService.getTodos(1, 100));
+
+        // then: 첫 페이지가 다 차지 않으면 count 쿼리도 없습니다.
+        assertEquals(2, cold.getStatements());
+        assertStatements(1, () -> todoService.getTodos(1, 100));
+    }
+
+    @Test
+    void todo_단건_조회는_todo_조회_한번으로_끝난다() {
+        // given
+        todoService.getTodo(todoId);
+
+        // when & then
+        assertStatements(1, () -> todoService.getTodo(todoId));
+    }
+
+    @Test
+    void todo_수정은_버전_조건부_UPDATE_한번으로_끝난다() {
+        // when & then
+        assertStatements(1, () -> todoService.updateTodo(owner, todoId, new TodoUpdateRequest("new title", null, null), 0L));
+    }
+
+    @Test
+    void todo_삭제는_soft_delete_UPDATE_한번으로_끝난다() {
+        // when & then
+        assertStatements(1, () -> todoService.deleteTodo(owner, todoId));
+    }
+}
@@ -3,19 +3,27 @@ package org.example.expert.domain.todo.service;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoUpdateResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserDirectory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,15 +31,23 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -39,6 +55,12 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TodoOwnerCache todoOwnerCache;
+    @Mock
+    private UserDirectory userDirectory;
     @InjectMocks
     private TodoService todoService;
 
@@ -102,7 +124,8 @@ public class TodoServiceTest {
         long todoId = 1L;
         Todo todo = new Todo("TITLE1", "contents 1", "sunny", user);
         ReflectionTestUtils.setField(todo,"id", todoId);
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(userDirectory.resolve(authUser.getId())).willReturn(new UserResponse(authUser.getId(), authUser.getEmail()));
 
         // when
         TodoResponse result = todoService.getTodo(todoId);
@@ -126,11 +149,175 @@ public class TodoServiceTest {
         long todoId = 1L;
         Todo todo = new Todo("TITLE1", "contents 1", "sunny", user);
         ReflectionTestUtils.setField(todo,"id", todoId);
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
                 () -> todoService.getTodo(todoId));
         assertEquals("Todo not found", exception.getMessage());
     }
+
+    /* 일정 수정 (낙관적 락)
+    1. 버전이 같으면 수정 후 버전 증가
+    2. 버전이 다르면 409
+    3. 담당자가 아니면 예외처리
+    */
+    @Test
+    void 일정_수정_성공시_버전이_증가한다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("new title", null, null);
+        given(todoRepository.updateIfVersionMatches(eq(todoId), eq(1L), eq(3L), eq("new title"), isNull(), any(LocalDateTime.class)))
+                .willReturn(1);
+
+        // when
+        TodoUpdateResponse response = todoService.updateTodo(authUser, todoId, request, 3L);
+
+        // then
+        assertEquals(4L, response.getVersion());
+        verify(todoRepository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    void 일정_수정시_버전이_다르면_충돌_예외가_발생한다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("new title", "new contents", null);
+        TodoVersion current = new TodoVersion(todoId, 5L, LocalDateTime.now(), LocalDateTime.now(), 0, 1, null, null);
+        given(todoRepository.updateIfVersionMatches(anyLong(), anyLong(), anyLong(), any(), any(), any())).willReturn(0);
+        given(todoRepository.findVersionById(todoId)).willReturn(Optional.of(current));
+
+        // when & then
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> todoService.updateTodo(authUser, todoId, request, 3L));
+        assertEquals("다른 사용자가 먼저 수정했습니다. 현재 버전: 5", exception.getMessage());
+    }
+
+    @Test
+    void 일정_수정시_담당자가_아니면_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("new title", "new contents", null);
+        TodoVersion current = new TodoVersion(todoId, 3L, LocalDateTime.now(), LocalDateTime.now(), 0, 1, null, null);
+        given(todoRepository.updateIfVersionMatches(anyLong(), anyLong(), anyLong(), any(), any(), any())).willReturn(0);
+        given(todoRepository.findVersionById(todoId)).willReturn(Optional.of(current));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, todoId, request, 3L));
+        assertEquals("일정의 담당자만 수정할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 일정_수정시_버전이_없으면_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoUpdateRequest request = new TodoUpdateRequest("new title", "new contents", null);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, 1L, request, null));
+        assertEquals("If-Match 헤더 또는 version이 필요합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 일정_삭제시_삭제_플래그만_세운다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        given(todoRepository.softDelete(eq(todoId), eq(1L), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        verify(todoRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void 일정_삭제시_작성자가_아니면_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        long todoId = 1L;
+        given(todoRepository.softDelete(eq(todoId), eq(2L), any(LocalDateTime.class))).willReturn(0);
+        given(todoRepository.existsById(todoId)).willReturn(true);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, todoId));
+        assertEquals("일정 작성자만 삭제할 수 있습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 내가_만든_일정은_한건_더_읽어서_다음_cursor를_만든다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123456000);
+        List<Todo> todos = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            Todo todo = new Todo("title" + id, "contents", "sunny", user);
+            ReflectionTestUtils.setField(todo, "id", id);
+            ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+            todos.add(todo);
+        }
+        given(todoRepository.findOwnedFirstPage(1L, PageRequest.of(0, 3))).willReturn(todos);
+
+        // when
+        TodoCursorResponse response = todoService.getMyTodos(authUser, "owner", null, 2);
+
+        // then
+        assertEquals(2, response.getTodos().size());
+        assertEquals("2024-05-01T10:00:00.123456_2", response.getNextCursor());
+        assertEquals("a@a.com", response.getTodos().get(0).getUser().getEmail());
+    }
+
+    @Test
+    void 내가_만든_일정_cursor로_다음_페이지를_조회한다(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        LocalDateTime cursorAt = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123456000);
+        given(todoRepository.findOwnedAfter(1L, cursorAt, 2L, PageRequest.of(0, 3))).willReturn(List.of());
+
+        // when
+        TodoCursorResponse response = todoService.getMyTodos(authUser, "owner", "2024-05-01T10:00:00.123456_2", 2);
+
+        // then
+        assertEquals(0, response.getTodos().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void 담당한_일정은_todo_id_cursor로_조회한다(){
+        // given
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        User owner = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        ReflectionTestUtils.setField(todo, "id", 5L);
+        given(todoRepository.findManagedBefore(2L, 9L, PageRequest.of(0, 11))).willReturn(List.of(todo));
+        given(userDirectory.resolveAll(List.of(1L))).willReturn(Map.of(1L, new UserResponse(1L, "a@a.com")));
+
+        // when
+        TodoCursorResponse response = todoService.getMyTodos(authUser, "manager", "9", 10);
+
+        // then
+        assertEquals(1, response.getTodos().size());
+        assertEquals("a@a.com", response.getTodos().get(0).getUser().getEmail());
+        assertFalse(response.isHasNext());
+    }
+
+    @Test
+    void 내_일정_조회시_role이_잘못되면_예외처리(){
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getMyTodos(authUser, "viewer", null, 10));
+        assertEquals("role은 owner 또는 manager 여야 합니다.", exception.getMessage());
+    }
 }
@@ -0,0 +1,100 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 todo를 여러 편집자가 동시에 수정할 때의 처리량/충돌 비율 측정
+ * ./gradlew benchmark 로만 실행됩니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "jwt.secret.key=7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64uk",
+        "snowflake.node-id=1",
+        "spring.datasource.url=jdbc:h2:mem:contention;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TodoUpdateContentionBenchmark {
+
+    private static final int EDITORS = 32;
+    private static final int ATTEMPTS_PER_EDITOR = 200;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 동시_편집자_수정_충돌_벤치마크() throws Exception {
+        // given
+        User owner = userRepository.save(new User("owner@bench.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        long todoId = todo.getId();
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        AtomicLong successes = new AtomicLong();
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        for (int e = 0; e < EDITORS; e++) {
+            int editor = e;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_EDITOR; i++) {
+                    long version = todoRepository.findVersionById(todoId).map(TodoVersion::getVersion).orElseThrow();
+                    try {
+                        todoService.updateTodo(authUser, todoId,
+                                new TodoUpdateRequest("title-" + editor + "-" + i, null, null), version);
+                        successes.incrementAndGet();
+                    } catch (ConflictException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        executor.shutdown();
+
+        // then
+        long attempts = (long) EDITORS * ATTEMPTS_PER_EDITOR;
+        System.out.printf("::: editors=%d attempts=%d success=%d conflict=%d (%.1f%%) elapsed=%dms throughput=%.0f req/s%n",
+                EDITORS, attempts, successes.get(), conflicts.get(),
+                conflicts.get() * 100.0 / attempts, elapsedMillis, attempts * 1000.0 / elapsedMillis);
+
+        assertEquals(attempts, successes.get() + conflicts.get());
+        long finalVersion = todoRepository.findVersionById(todoId).map(TodoVersion::getVersion).orElseThrow();
+        assertEquals(successes.get(), finalVersion);
+    }
+}
@@ -8,6 +8,8 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.controller.TodoController;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserAdminResponse;
+import org.example.expert.domain.user.dto.response.UserCursorResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -27,6 +29,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 
@@ -35,6 +39,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = {UserController.class, UserAdminController.class},
@@ -65,6 +70,32 @@ class UserControllerTest {
                 .build();
     }
 
+    @Test
+    void User_다건조회() throws Exception {
+        given(userService.getUsers(List.of(2L, 1L)))
+                .willReturn(List.of(new UserResponse(2L, "b@b.com"), new UserResponse(1L, "a@a.com")));
+
+        // when & then
+        mockMvc.perform(get("/users").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                // id는 JS 정밀도(2^53)를 넘으므로 문자열로 내려갑니다.
+                .andExpect(jsonPath("$[0].id").value("2"))
+                .andExpect(jsonPath("$[1].id").value("1"));
+    }
+
+    @Test
+    void 관리자_유저_목록_조회() throws Exception {
+        UserCursorResponse response = new UserCursorResponse(
+                List.of(new UserAdminResponse(1L, "a@a.com", UserRole.ADMIN, null)), null, false);
+        given(userAdminService.getUsers("ADMIN", "a", null, 20)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/admin/users").param("role", "ADMIN").param("emailPrefix", "a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].email").value("a@a.com"))
+                .andExpect(jsonPath("$.users[0].password").doesNotExist());
+    }
+
     @Test
     void User_단건조회() throws Exception {
         long userId = 1L;
@@ -2,7 +2,11 @@ package org.example.expert.domain.user.service;
 
 import org.aspectj.util.Reflection;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.dto.request.UserBulkRoleChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserAdminResponse;
+import org.example.expert.domain.user.dto.response.UserBulkRoleChangeResponse;
+import org.example.expert.domain.user.dto.response.UserCursorResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -11,15 +15,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +45,10 @@ class UserAdminServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserService userService;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -49,6 +70,115 @@ class UserAdminServiceTest {
 
         // then
         verify(user).updateRole(UserRole.of("ADMIN"));
+        verify(userProfileCache).evict(userId);
+
+    }
+
+    @Test
+    void 유저_목록은_한건_더_읽어서_다음_페이지를_판단한다() {
+        // given
+        List<UserAdminResponse> users = List.of(
+                new UserAdminResponse(11L, "a@a.com", UserRole.ADMIN, null),
+                new UserAdminResponse(12L, "ab@a.com", UserRole.ADMIN, null),
+                new UserAdminResponse(13L, "abc@a.com", UserRole.ADMIN, null)
+        );
+        given(userRepository.findAdminPageByRole(UserRole.ADMIN, "a!_b%", 10L, PageRequest.of(0, 3))).willReturn(users);
+
+        // when
+        UserCursorResponse response = userAdminService.getUsers("admin", "a_b", 10L, 2);
+
+        // then
+        assertEquals(2, response.getUsers().size());
+        assertTrue(response.isHasNext());
+        assertEquals(12L, response.getNextCursor());
+    }
+
+    @Test
+    void 유저_목록_필터가_없으면_전체를_id_순서로_조회한다() {
+        // given
+        given(userRepository.findAdminPage(null, 0L, PageRequest.of(0, 21))).willReturn(List.of());
+
+        // when
+        UserCursorResponse response = userAdminService.getUsers(null, " ", null, 20);
+
+        // then
+        assertTrue(response.getUsers().isEmpty());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
 
+    @Test
+    void 권한_일괄_변경은_유저별_결과를_구분한다() {
+        // given: 1은 변경 대상, 2는 이미 ADMIN, 3은 없는 유저
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(userRepository.findAdminByIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(
+                new UserAdminResponse(1L, "a@a.com", UserRole.USER, null),
+                new UserAdminResponse(2L, "b@b.com", UserRole.ADMIN, null)
+        ));
+        given(userRepository.updateRoleByIdIn(eq(List.of(1L)), eq(UserRole.ADMIN), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        UserBulkRoleChangeResponse response = userAdminService.bulkChangeUserRole(
+                new UserBulkRoleChangeRequest(List.of(3L, 1L, 2L, 1L), "admin"));
+
+        // then
+        assertEquals(List.of(1L), response.getChangedUserIds());
+        assertEquals(List.of(2L), response.getUnchangedUserIds());
+        assertEquals(List.of(3L), response.getNotFoundUserIds());
+        assertTrue(response.getFailedUserIds().isEmpty());
+        verify(userProfileCache).evict(1L);
+    }
+
+    @Test
+    void 권한_일괄_변경_중_chunk가_실패해도_커밋된_chunk_결과는_유지한다() {
+        // given: 첫 chunk는 커밋되고 두 번째 chunk의 UPDATE가 실패
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        List<Long> userIds = LongStream.rangeClosed(1, UserAdminService.BULK_ROLE_CHUNK_SIZE + 1).boxed().toList();
+        List<Long> firstChunk = userIds.subList(0, UserAdminService.BULK_ROLE_CHUNK_SIZE);
+        long lastId = UserAdminService.BULK_ROLE_CHUNK_SIZE + 1;
+        given(userRepository.findAdminByIdIn(firstChunk)).willReturn(firstChunk.stream()
+                .map(id -> new UserAdminResponse(id, id + "@a.com", UserRole.USER, null)).toList());
+        given(userRepository.findAdminByIdIn(List.of(lastId))).willReturn(List.of(
+                new UserAdminResponse(lastId, "last@a.com", UserRole.USER, null)));
+        given(userRepository.updateRoleByIdIn(eq(firstChunk), eq(UserRole.ADMIN), any(LocalDateTime.class)))
+                .willReturn(firstChunk.size());
+        given(userRepository.updateRoleByIdIn(eq(List.of(lastId)), eq(UserRole.ADMIN), any(LocalDateTime.class)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        UserBulkRoleChangeResponse response = userAdminService.bulkChangeUserRole(new UserBulkRoleChangeRequest(userIds, "ADMIN"));
+
+        // then
+        assertEquals(firstChunk, response.getChangedUserIds());
+        assertEquals(List.of(lastId), response.getFailedUserIds());
+        verify(userProfileCache, times(firstChunk.size())).evict(anyLong());
+    }
+
+    @Test
+    void 권한_일괄_변경은_chunk마다_UPDATE_한번씩_실행한다() {
+        // given
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        List<Long> userIds = LongStream.rangeClosed(1, UserAdminService.BULK_ROLE_CHUNK_SIZE + 1).boxed().toList();
+        given(userRepository.findAdminByIdIn(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(id -> new UserAdminResponse(id, id + "@a.com", UserRole.USER, null))
+                .toList());
+        given(userRepository.updateRoleByIdIn(anyList(), eq(UserRole.ADMIN), any(LocalDateTime.class)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        UserBulkRoleChangeResponse response = userAdminService.bulkChangeUserRole(new UserBulkRoleChangeRequest(userIds, "ADMIN"));
+
+        // then
+        assertEquals(userIds.size(), response.getChangedUserIds().size());
+        verify(userRepository, times(2)).updateRoleByIdIn(anyList(), eq(UserRole.ADMIN), any(LocalDateTime.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void 시작시_keyset으로_전체_유저를_읽어_조회없이_찾는다() {
+        // given
+        UserDirectory directory = new UserDirectory(userRepository, 2);
+        given(userRepository.findProfilesAfter(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new UserResponse(1L, "a@a.com"), new UserResponse(2L, "b@b.com")));
+        given(userRepository.findProfilesAfter(2L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new UserResponse(3L, "한글@c.com")));
+
+        // when
+        directory.load();
+        Map<Long, UserResponse> result = directory.resolveAll(List.of(3L, 1L));
+
+        // then
+        assertEquals(3, directory.size());
+        assertEquals("a@a.com", result.get(1L).getEmail());
+        assertEquals("한글@c.com", result.get(3L).getEmail());
+        verify(userRepository, never()).findProfilesByIdIn(anyCollection());
+    }
+
+    @Test
+    void 디렉터리에_없는_유저만_한번에_조회해_채운다() {
+        // given
+        UserDirectory directory = new UserDirectory(userRepository, 100);
+        directory.putAfterCommit(1L, "a@a.com");
+        given(userRepository.findProfilesByIdIn(List.of(2L, 3L))).willReturn(List.of(new UserResponse(2L, "b@b.com")));
+
+        // when
+        Map<Long, UserResponse> result = directory.resolveAll(List.of(1L, 2L, 3L, 2L));
+
+        // then: 없는 유저(3)는 빠지고, 조회한 유저(2)는 다음부터 메모리에서 찾습니다.
+        assertEquals(2, result.size());
+        assertEquals("b@b.com", directory.resolve(2L).getEmail());
+        assertEquals(2, directory.size());
+    }
+
+    @Test
+    void 많은_유저를_넣어도_이메일이_섞이지_않는다() {
+        // given
+        UserDirectory directory = new UserDirectory(userRepository, 100);
+
+        // when
+        for (long id = 1; id <= 50_000; id++) {
+            directory.putAfterCommit(id, "user" + id + "@example.com");
+        }
+
+        // then
+        assertEquals(50_000, directory.size());
+        assertEquals("user1@example.com", directory.resolve(1L).getEmail());
+        assertEquals("user31337@example.com", directory.resolve(31337L).getEmail());
+        assertEquals("user50000@example.com", directory.resolve(50_000L).getEmail());
+    }
+}
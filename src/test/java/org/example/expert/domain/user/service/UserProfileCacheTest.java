@@ -0,0 +1,116 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void 두번째_조회는_캐시에서_반환된다() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, 100);
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+
+        // when
+        cache.findById(1L);
+        Optional<UserResponse> result = cache.findById(1L);
+
+        // then
+        assertEquals("a@a.com", result.orElseThrow().getEmail());
+        verify(userRepository, times(1)).findProfileById(1L);
+        UserCacheStatsResponse stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void 없는_유저는_캐시하지_않는다() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, 100);
+        given(userRepository.findProfileById(1L)).willReturn(Optional.empty());
+
+        // when
+        cache.findById(1L);
+        cache.findById(1L);
+
+        // then
+        verify(userRepository, times(2)).findProfileById(1L);
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    void evict_후에는_다시_조회한다() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, 100);
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+        cache.findById(1L);
+
+        // when
+        cache.evict(1L);
+        cache.findById(1L);
+
+        // then
+        verify(userRepository, times(2)).findProfileById(1L);
+    }
+
+    @Test
+    void 자주_조회된_유저는_한번씩_조회된_유저들에_밀려나지_않는다() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, 100);
+        given(userRepository.findProfileById(anyLong()))
+                .willAnswer(inv -> Optional.of(new UserResponse(inv.getArgument(0), "user@a.com")));
+        for (int i = 0; i < 5; i++) {
+            cache.findById(1L);
+        }
+
+        // when: 한 번씩만 조회되는 유저가 용량의 몇 배만큼 지나갑니다.
+        for (long id = 1000; id < 1500; id++) {
+            cache.findById(id);
+        }
+        cache.findById(1L);
+
+        // then
+        verify(userRepository, times(1)).findProfileById(1L);
+        UserCacheStatsResponse stats = cache.getStats();
+        assertTrue(stats.getSize() <= 100);
+        assertTrue(stats.getEvictions() > 0);
+    }
+
+    @Test
+    void 다건조회는_캐시에_없는_유저만_IN_쿼리로_조회한다() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, 100);
+        given(userRepository.findProfileById(1L)).willReturn(Optional.of(new UserResponse(1L, "a@a.com")));
+        given(userRepository.findProfilesByIdIn(List.of(2L, 3L))).willReturn(List.of(new UserResponse(2L, "b@b.com")));
+        cache.findById(1L);
+
+        // when
+        Map<Long, UserResponse> result = cache.findAllById(List.of(1L, 2L, 3L));
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals("b@b.com", result.get(2L).getEmail());
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(3, cache.getStats().getMisses());
+    }
+}
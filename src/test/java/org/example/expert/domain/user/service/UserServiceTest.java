@@ -1,20 +1,22 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
-import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
@@ -28,17 +30,22 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
-    @InjectMocks
+    @Mock
+    private UserProfileCache userProfileCache;
+
     private UserService userService;
 
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, passwordEncoder, userProfileCache, 3);
+    }
+
     @Test
     void 유저_단건조회_테스트() {
         // given
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long userId = 1L;
-        User user = User.fromAuthUser(authUser);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userProfileCache.findById(userId)).willReturn(Optional.of(new UserResponse(userId, "a@a.com")));
 
         //when & then
         UserResponse result = userService.getUser(userId);
@@ -46,6 +53,29 @@ class UserServiceTest {
         assertNotNull(result);
     }
 
+    @Test
+    void 유저_다건조회는_요청_순서대로_중복없이_반환한다() {
+        // given
+        given(userProfileCache.findAllById(Set.of(3L, 1L, 2L))).willReturn(Map.of(
+                1L, new UserResponse(1L, "a@a.com"),
+                3L, new UserResponse(3L, "c@c.com")
+        ));
+
+        // when
+        List<UserResponse> result = userService.getUsers(List.of(3L, 1L, 3L, 2L));
+
+        // then: 없는 유저(2)는 빠집니다.
+        assertEquals(List.of(3L, 1L), result.stream().map(UserResponse::getId).toList());
+    }
+
+    @Test
+    void 유저_다건조회_id가_상한을_넘으면_예외처리() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> userService.getUsers(List.of(1L, 2L, 3L, 4L)));
+        assertEquals("ids는 최대 3개까지 조회할 수 있습니다.", exception.getMessage());
+    }
+
     @Test
     void 비밀번호_변경_테스트() {
         // given
@@ -62,6 +92,7 @@ class UserServiceTest {
         userService.changePassword(userId, request);
 
         verify(user).changePassword("encodeNewPassword");
+        verify(userProfileCache).evict(userId);
     }
 
     @Test